@@ -5,17 +5,19 @@ import com.server.scapture.comment.dto.GetCommentResponseDto;
 import com.server.scapture.comment.repository.CommentRepository;
 import com.server.scapture.commentLike.repository.CommentLikeRepository;
 import com.server.scapture.domain.Comment;
-import com.server.scapture.domain.CommentLike;
 import com.server.scapture.domain.User;
 import com.server.scapture.domain.Video;
 import com.server.scapture.oauth.jwt.JwtUtil;
 import com.server.scapture.user.repository.UserRepository;
+import com.server.scapture.util.S3.S3Service;
+import com.server.scapture.util.S3.UrlAudience;
 import com.server.scapture.util.response.CustomAPIResponse;
 import com.server.scapture.video.repository.VideoRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -29,6 +31,7 @@ public class CommentServiceImpl implements CommentService{
     private final CommentLikeRepository commentLikeRepository;
     private final UserRepository userRepository;
     private final JwtUtil jwtUtil;
+    private final S3Service s3Service;
 
     @Override
     public ResponseEntity<CustomAPIResponse<?>> createComment(String header, CreateCommentRequestDto createCommentRequestDto) {
@@ -95,6 +98,7 @@ public class CommentServiceImpl implements CommentService{
                     .body(responseBody);
         }
         // 4. data
+        UrlAudience audience = user != null ? UrlAudience.MEMBER : UrlAudience.ANONYMOUS;
         List<GetCommentResponseDto> data = new ArrayList<>();
         for (Comment comment : commentList) {
             // 4-1. 사용자 조회
@@ -114,7 +118,7 @@ public class CommentServiceImpl implements CommentService{
             GetCommentResponseDto responseDto = GetCommentResponseDto.builder()
                     .commentId(comment.getId())
                     .name(commentUser.getName())
-                    .image(commentUser.getImage())
+                    .image(s3Service.presign(commentUser.getImage(), audience))
                     .content(comment.getContent())
                     .isLiked(isLiked)
                     .likeCount(comment.getLikeCount())
@@ -128,6 +132,7 @@ public class CommentServiceImpl implements CommentService{
                 .body(responseBody);
     }
     @Override
+    @Transactional
     public ResponseEntity<CustomAPIResponse<?>> createCommentLike(String header, Long commentId) {
         // 1. 사용자 조회
         Optional<User> foundUser = jwtUtil.findUserByJwtToken(header);
@@ -140,35 +145,24 @@ public class CommentServiceImpl implements CommentService{
         }
         // 1-2. 성공
         User user = foundUser.get();
-        // 2. 댓글 조회
-        Optional<Comment> foundComment = commentRepository.findById(commentId);
-        // 2-1. 실패
-        if (foundComment.isEmpty()) {
+        // 2. 댓글 존재 여부 확인
+        if (!commentRepository.existsById(commentId)) {
             CustomAPIResponse<Object> responseBody = CustomAPIResponse.createFailWithoutData(HttpStatus.NOT_FOUND.value(), "존재하지 않는 댓글입니다.");
             return ResponseEntity
                     .status(HttpStatus.NOT_FOUND)
                     .body(responseBody);
         }
-        // 2-2. 성공
-        Comment comment = foundComment.get();
-        // 3. 댓글 좋아요 생성
-        // 3-1. 중복 검사
-        if (commentLikeRepository.findByCommentAndUser(comment, user).isPresent()) {
+        // 3. 댓글 좋아요 생성 (유니크 제약으로 중복 검사)
+        int inserted = commentLikeRepository.insertIfAbsent(commentId, user.getId());
+        // 3-1. 이미 존재
+        if (inserted == 0) {
             CustomAPIResponse<Object> responseBody = CustomAPIResponse.createFailWithoutData(HttpStatus.CONFLICT.value(), "이미 존재하는 좋아요입니다.");
             return ResponseEntity
                     .status(HttpStatus.CONFLICT)
                     .body(responseBody);
         }
-        // 3-2. 객체 생성
-        CommentLike commentLike = CommentLike.builder()
-                .comment(comment)
-                .user(user)
-                .build();
-        // 3-3. 저장
-        commentLikeRepository.save(commentLike);
-        // 4. 댓글 좋아요 수 증가
-        comment.increaseLikeCount();
-        commentRepository.save(comment);
+        // 4. 댓글 좋아요 수 증가 (DB 원자적 증가)
+        commentRepository.increaseLikeCount(commentId);
         // 5. Response
         CustomAPIResponse<Object> responseBody = CustomAPIResponse.createSuccessWithoutData(HttpStatus.CREATED.value(), "댓글 좋아요 추가 완료되었습니다.");
         return ResponseEntity
@@ -176,6 +170,7 @@ public class CommentServiceImpl implements CommentService{
                 .body(responseBody);
     }
     @Override
+    @Transactional
     public ResponseEntity<CustomAPIResponse<?>> deleteCommentLike(String header, Long commentId) {
         // 1. 사용자 조회
         Optional<User> foundUser = jwtUtil.findUserByJwtToken(header);
@@ -188,33 +183,24 @@ public class CommentServiceImpl implements CommentService{
         }
         // 1-2. 성공
         User user = foundUser.get();
-        // 2. 댓글 조회
-        Optional<Comment> foundComment = commentRepository.findById(commentId);
-        // 2-1. 실패
-        if (foundComment.isEmpty()) {
+        // 2. 댓글 존재 여부 확인
+        if (!commentRepository.existsById(commentId)) {
             CustomAPIResponse<Object> responseBody = CustomAPIResponse.createFailWithoutData(HttpStatus.NOT_FOUND.value(), "존재하지 않는 댓글입니다.");
             return ResponseEntity
                     .status(HttpStatus.NOT_FOUND)
                     .body(responseBody);
         }
-        // 2-2. 성공
-        Comment comment = foundComment.get();
-        // 3. 댓글 좋아요 조회
-        Optional<CommentLike> foundCommentLike = commentLikeRepository.findByCommentAndUser(comment, user);
+        // 3. 댓글 좋아요 삭제
+        int deleted = commentLikeRepository.deleteByCommentIdAndUserId(commentId, user.getId());
         // 3-1. 조회 실패
-        if (foundCommentLike.isEmpty()) {
+        if (deleted == 0) {
             CustomAPIResponse<Object> responseBody = CustomAPIResponse.createFailWithoutData(HttpStatus.NOT_FOUND.value(), "존재하지 않는 댓글 좋아요입니다.");
             return ResponseEntity
                     .status(HttpStatus.NOT_FOUND)
                     .body(responseBody);
         }
-        // 3-2. 성공
-        CommentLike commentLike = foundCommentLike.get();
-        // 4. 삭제
-        commentLikeRepository.delete(commentLike);
-        // 5. 댓글 좋아요 수 감소
-        comment.decreaseLikeCount();
-        commentRepository.save(comment);
+        // 4. 댓글 좋아요 수 감소 (DB 원자적 감소)
+        commentRepository.decreaseLikeCount(commentId);
         // 5. Response
         CustomAPIResponse<Object> responseBody = CustomAPIResponse.createSuccessWithoutData(HttpStatus.NO_CONTENT.value(), "댓글 삭제 완료되었습니다.");
         return ResponseEntity
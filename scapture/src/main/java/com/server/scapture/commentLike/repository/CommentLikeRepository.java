@@ -4,6 +4,8 @@ import com.server.scapture.domain.Comment;
 import com.server.scapture.domain.CommentLike;
 import com.server.scapture.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -11,4 +13,11 @@ import java.util.Optional;
 @Repository
 public interface CommentLikeRepository extends JpaRepository<CommentLike, Long> {
     Optional<CommentLike> findByCommentAndUser(Comment comment, User user);
+    // (comment_id, user_id) 유니크 제약으로 중복 좋아요는 무시 -> 1: 추가, 0: 이미 존재
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO comment_like (comment_id, user_id) VALUES (:commentId, :userId)", nativeQuery = true)
+    int insertIfAbsent(Long commentId, Long userId);
+    @Modifying
+    @Query("DELETE FROM CommentLike cl WHERE cl.comment.id = :commentId AND cl.user.id = :userId")
+    int deleteByCommentIdAndUserId(Long commentId, Long userId);
 }
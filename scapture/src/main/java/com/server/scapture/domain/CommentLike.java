@@ -8,7 +8,8 @@ import lombok.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder
-@Table(name = "Comment_like")
+// 기존 DB에는 중복 행 정리 후 제약 추가 필요 (resources/db/unique_like_constraints.sql)
+@Table(name = "Comment_like", uniqueConstraints = @UniqueConstraint(name = "uk_comment_like_comment_user", columnNames = {"comment_id", "user_id"}))
 public class CommentLike {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -8,6 +8,8 @@ import lombok.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder
+// 기존 DB에는 중복 행 정리 후 제약 추가 필요 (resources/db/unique_download_constraint.sql)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_download_user_video", columnNames = {"user_id", "video_id"}))
 public class Download {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
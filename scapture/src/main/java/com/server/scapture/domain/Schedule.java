@@ -21,22 +21,33 @@ public class Schedule {
     @JoinColumn(name = "field_id")
     private Field field;            // 구장 FK
     private LocalDateTime startDate;// 이용 시간(시작)
+    @Column(name = "end_date")
     private LocalDateTime endDate;  // 이용 시간(종료)
     @ColumnDefault("false")
     private Boolean isReserved;     // 예약 여부
     private int price;              // 가격
 
     public String convertHourAndMin() {
+        return convertHourAndMin(startDate, endDate);
+    }
+    public String convertAll() {
+        return convertAll(startDate);
+    }
+    public String convertMonthAndDay() {
+        return convertMonthAndDay(startDate);
+    }
+    // 엔티티 없이 조회한 값(프로젝션)에도 같은 형식을 쓰기 위한 static 버전
+    public static String convertHourAndMin(LocalDateTime startDate, LocalDateTime endDate) {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("HH:mm");
         String formattedStartDate = startDate.format(formatter);
         String formattedEndDate = endDate.format(formatter);
         return formattedStartDate + "~" + formattedEndDate;
     }
-    public String convertAll() {
+    public static String convertAll(LocalDateTime startDate) {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy.MM.dd.E", Locale.KOREA);
         return startDate.format(formatter);
     }
-    public String convertMonthAndDay() {
+    public static String convertMonthAndDay(LocalDateTime startDate) {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM.dd.E", Locale.KOREA);
         return startDate.format(formatter);
     }
@@ -21,4 +21,6 @@ public class Stadium {
     private String hours;               // 운영 시간
     private Boolean isOutside;          // 실내 / 실외
     private String parking;             // 주차 공간
+    private Double latitude;            // 위도 (미등록 시 null)
+    private Double longitude;           // 경도 (미등록 시 null)
 }
@@ -3,11 +3,14 @@ package com.server.scapture.domain;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDateTime;
+
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder
+@Table(indexes = @Index(name = "idx_store_user_video", columnList = "user_id, video_id"))
 public class Store {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -18,4 +21,5 @@ public class Store {
     @ManyToOne
     @JoinColumn(name = "video_id")
     private Video video;
+    private LocalDateTime createdAt;      // 생성 시각 (급상승 점수 차감용, 기존 행은 null)
 }
@@ -12,6 +12,9 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder
+@Table(indexes = {
+        @Index(name = "idx_video_schedule_id", columnList = "schedule_id, id")
+})
 public class Video {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -23,6 +26,7 @@ public class Video {
     private String image;           // 영상 썸네일
     private String video;           // 영상
     @ColumnDefault("0")
+    @Column(name = "like_count")
     private int likeCount;          // 좋아요 수
     private int views;              // 조회 수
     public void increaseLikeCount() {this.likeCount+=1;}
@@ -0,0 +1,32 @@
+package com.server.scapture.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+// 영상 일별 순 시청자 HyperLogLog 스케치
+// 저장/조회는 VideoDailyViewerRepository(JDBC)에서 처리
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder
+@Table(name = "video_daily_viewer",
+        uniqueConstraints = @UniqueConstraint(name = "uk_video_daily_viewer_video_date", columnNames = {"video_id", "view_date"}),
+        indexes = @Index(name = "idx_video_daily_viewer_date", columnList = "view_date"))
+public class VideoDailyViewer {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;                // PK
+    @ManyToOne
+    @JoinColumn(name = "video_id")
+    private Video video;            // 영상 FK
+    @Column(name = "view_date")
+    private LocalDate viewDate;     // 집계 일자
+    @Lob
+    @Column(columnDefinition = "BLOB")
+    private byte[] sketch;          // HyperLogLog 레지스터
+    @Column(name = "counted_views")
+    private long countedViews;      // 조회 수에 이미 반영한 순 시청자 수
+}
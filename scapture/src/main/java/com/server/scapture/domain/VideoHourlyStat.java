@@ -0,0 +1,27 @@
+package com.server.scapture.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// 영상 시간대별 조회/좋아요 수 (최근 7일 차트 체크포인트)
+// 저장/조회는 VideoHourlyStatRepository(JDBC)에서 처리
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder
+@Table(name = "video_hourly_stat",
+        uniqueConstraints = @UniqueConstraint(name = "uk_video_hourly_stat_video_hour", columnNames = {"video_id", "bucket_hour"}),
+        indexes = @Index(name = "idx_video_hourly_stat_hour", columnList = "bucket_hour"))
+public class VideoHourlyStat {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;                // PK
+    @ManyToOne
+    @JoinColumn(name = "video_id")
+    private Video video;            // 영상 FK
+    @Column(name = "bucket_hour")
+    private long bucketHour;        // epoch 기준 시간(시) 번호
+    private long views;             // 해당 시간 조회 수
+    private long likes;             // 해당 시간 좋아요 수(해제 반영)
+}
@@ -3,12 +3,15 @@ package com.server.scapture.domain;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDateTime;
+
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder
-@Table(name = "Video_like")
+// 기존 DB에는 중복 행 정리 후 제약 추가 필요 (resources/db/unique_like_constraints.sql)
+@Table(name = "Video_like", uniqueConstraints = @UniqueConstraint(name = "uk_video_like_video_user", columnNames = {"video_id", "user_id"}))
 public class VideoLike {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -19,4 +22,5 @@ public class VideoLike {
     @ManyToOne
     @JoinColumn(name = "video_id")
     private Video video;
+    private LocalDateTime createdAt;      // 생성 시각 (급상승 점수 차감용, 기존 행은 null)
 }
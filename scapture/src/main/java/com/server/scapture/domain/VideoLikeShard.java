@@ -0,0 +1,24 @@
+package com.server.scapture.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// 영상 좋아요 수 분산 카운터 (video.likes.sharded=true일 때 사용)
+// 아직 Video.likeCount에 합산되지 않은 증감분을 영상당 여러 행에 나눠 기록한다.
+// 저장/조회는 VideoLikeShardRepository(JDBC)에서 처리
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder
+@Table(name = "video_like_shard", uniqueConstraints = @UniqueConstraint(name = "uk_video_like_shard_video_shard", columnNames = {"video_id", "shard"}))
+public class VideoLikeShard {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;                // PK
+    @ManyToOne
+    @JoinColumn(name = "video_id")
+    private Video video;            // 영상 FK
+    private int shard;              // 분산 행 번호 (0 ~ N-1)
+    private long count;             // 미반영 증감분
+}
@@ -0,0 +1,41 @@
+package com.server.scapture.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 영상 목록 조회용 비정규화 카드 (영상 + 운영 일정 + 경기장 + 경기장 첫 이미지)
+// 영상 등록 시 채우고 경기장 이름/이미지 변경 시 갱신하며, 좋아요/조회 수는 주기적으로 video에서 동기화한다.
+// 채우기/갱신은 VideoListCardRepository의 INSERT ... SELECT, UPDATE에서 처리
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder
+@Table(name = "video_card", indexes = {
+        @Index(name = "idx_video_card_schedule_video", columnList = "schedule_id, video_id"),
+        @Index(name = "idx_video_card_stadium", columnList = "stadium_id")
+})
+public class VideoListCard {
+    @Id
+    @Column(name = "video_id")
+    private Long videoId;           // PK (영상 PK)
+    @Column(name = "schedule_id")
+    private Long scheduleId;        // 운영 일정 PK
+    @Column(name = "stadium_id")
+    private Long stadiumId;         // 경기장 PK
+    private String name;            // 영상 제목
+    private String image;           // 영상 썸네일
+    @Column(name = "start_date")
+    private LocalDateTime startDate;// 이용 시간(시작)
+    @Column(name = "end_date")
+    private LocalDateTime endDate;  // 이용 시간(종료)
+    @Column(name = "stadium_name")
+    private String stadiumName;     // 경기장 이름
+    @Column(name = "stadium_image")
+    private String stadiumImage;    // 경기장 첫 이미지
+    @Column(name = "like_count")
+    private int likeCount;          // 좋아요 수 (동기화 주기만큼 지연)
+    private int views;              // 조회 수 (동기화 주기만큼 지연)
+}
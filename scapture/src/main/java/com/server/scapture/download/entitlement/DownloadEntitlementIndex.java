@@ -0,0 +1,84 @@
+package com.server.scapture.download.entitlement;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.server.scapture.download.repository.DownloadRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+// 사용자별 다운로드 권한 인덱스 (Caffeine)
+// 사용자의 권한 영상 PK를 정렬된 long[]로 보관하고 이진 탐색으로 확인한다.
+// 처음 확인할 때 DB에서 적재하고, 이후에는 권한 부여 시 복사 후 교체(copy-on-write)로 갱신한다.
+// 다른 인스턴스에서 부여된 권한은 인덱스에 없을 수 있으므로, 인덱스에 없으면 DB를 확인한 뒤에만 거부한다.
+@Slf4j
+@Component
+public class DownloadEntitlementIndex {
+    private static final long[] EMPTY = new long[0];
+
+    private final DownloadRepository downloadRepository;
+    // 사용자 PK -> 권한이 있는 영상 PK (오름차순)
+    private final Cache<Long, long[]> entitlements;
+
+    public DownloadEntitlementIndex(DownloadRepository downloadRepository,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${download.entitlement.cache-size:100000}") long cacheSize,
+                                    @Value("${download.entitlement.expire-after-write:600}") long expireAfterWriteSeconds) {
+        this.downloadRepository = downloadRepository;
+        this.entitlements = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                .recordStats()
+                .build();
+        // cache.gets{result=hit|miss}, cache.evictions, cache.size 등
+        CaffeineCacheMetrics.monitor(meterRegistry, entitlements, "download.entitlement");
+    }
+
+    // 권한 여부 (인덱스에 있으면 DB 조회 없음, 없으면 DB 확인)
+    public boolean has(Long userId, Long videoId) {
+        long[] videoIds = entitlements.get(userId, this::load);
+        if (Arrays.binarySearch(videoIds, videoId) >= 0) return true;
+        // 적재 이후 다른 인스턴스에서 부여된 권한일 수 있음
+        if (!downloadRepository.existsByUserIdAndVideoId(userId, videoId)) return false;
+        grant(userId, videoId);
+        return true;
+    }
+
+    // 권한 부여 반영 (DB 커밋 이후 호출)
+    // 아직 적재되지 않은 사용자는 다음 확인 시 DB에서 함께 적재된다.
+    public void grant(Long userId, Long videoId) {
+        entitlements.asMap().computeIfPresent(userId, (id, videoIds) -> {
+            int index = Arrays.binarySearch(videoIds, videoId);
+            if (index >= 0) return videoIds;
+            int insertAt = -index - 1;
+            long[] updated = new long[videoIds.length + 1];
+            System.arraycopy(videoIds, 0, updated, 0, insertAt);
+            updated[insertAt] = videoId;
+            System.arraycopy(videoIds, insertAt, updated, insertAt + 1, videoIds.length - insertAt);
+            return updated;
+        });
+    }
+
+    // 사용자 권한 무효화 (권한 회수, 외부에서 DB를 직접 변경한 경우 등)
+    public void invalidate(Long userId) {
+        entitlements.invalidate(userId);
+    }
+
+    public void invalidateAll() {
+        entitlements.invalidateAll();
+        log.info("다운로드 권한 인덱스 초기화");
+    }
+
+    // 적재 중 grant가 끼어들어도 Caffeine이 같은 키의 적재/갱신을 직렬화하므로 누락되지 않음
+    private long[] load(Long userId) {
+        List<Long> videoIds = downloadRepository.findVideoIdsByUserId(userId);
+        if (videoIds.isEmpty()) return EMPTY;
+        return videoIds.stream().mapToLong(Long::longValue).toArray();
+    }
+}
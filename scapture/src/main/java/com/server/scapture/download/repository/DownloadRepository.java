@@ -4,11 +4,22 @@ import com.server.scapture.domain.Download;
 import com.server.scapture.domain.User;
 import com.server.scapture.domain.Video;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface DownloadRepository extends JpaRepository<Download, Long> {
     Optional<Download> findByVideoAndUser(Video video, User user);
+    // 사용자의 다운로드 권한 영상 PK (오름차순)
+    @Query("SELECT d.video.id FROM Download d WHERE d.user.id = :userId ORDER BY d.video.id")
+    List<Long> findVideoIdsByUserId(Long userId);
+    boolean existsByUserIdAndVideoId(Long userId, Long videoId);
+    // (user_id, video_id) 유니크 제약으로 중복 권한은 무시 -> 1: 추가, 0: 이미 존재
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO download (user_id, video_id) VALUES (:userId, :videoId)", nativeQuery = true)
+    int insertIfAbsent(Long userId, Long videoId);
 }
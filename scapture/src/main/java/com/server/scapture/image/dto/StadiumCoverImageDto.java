@@ -0,0 +1,5 @@
+package com.server.scapture.image.dto;
+
+// 경기장 대표 이미지 (경기장의 첫 이미지)
+public record StadiumCoverImageDto(Long stadiumId, String image) {
+}
@@ -2,14 +2,19 @@ package com.server.scapture.image.repository;
 
 import com.server.scapture.domain.Image;
 import com.server.scapture.domain.Stadium;
+import com.server.scapture.image.dto.StadiumCoverImageDto;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 
 @Repository
 public interface ImageRepository extends JpaRepository<Image, Long> {
-    Optional<Image> findFirst1ByStadium(Stadium stadium);
     List<Image> findByStadium(Stadium stadium);
+    // 여러 경기장의 첫 이미지를 한 번에 조회 (이미지가 없는 경기장은 결과에 없음)
+    @Query("SELECT new com.server.scapture.image.dto.StadiumCoverImageDto(i.stadium.id, i.image) FROM Image i " +
+            "WHERE i.id IN (SELECT MIN(i2.id) FROM Image i2 WHERE i2.stadium.id IN :stadiumIds GROUP BY i2.stadium.id)")
+    List<StadiumCoverImageDto> findCoverImagesByStadiumIdIn(Collection<Long> stadiumIds);
 }
@@ -1,5 +1,7 @@
 package com.server.scapture.oauth.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.server.scapture.domain.User;
 import com.server.scapture.user.repository.UserRepository;
 import io.jsonwebtoken.Claims;
@@ -8,12 +10,16 @@ import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.time.Duration;
 import java.util.Date;
 import java.util.Optional;
 
@@ -24,11 +30,59 @@ public class JwtUtil {
     @Value("${jwt.secret}")
     private String secretKey;
 
+    @Value("${jwt.user-id-cache.maximum-size:100000}")
+    private long userIdCacheSize;
+    @Value("${jwt.user-id-cache.expire-after-write:3600}")
+    private long userIdCacheExpireAfterWriteSeconds;
+
     @Autowired
     private UserRepository userRepository;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // "provider|providerId" -> 사용자 PK (Caffeine, expire-after-write가 지나면 다시 DB에서 확인)
+    private Cache<String, Long> userIds;
+
+    @PostConstruct
+    void initUserIdCache() {
+        userIds = Caffeine.newBuilder()
+                .maximumSize(userIdCacheSize)
+                .expireAfterWrite(Duration.ofSeconds(userIdCacheExpireAfterWriteSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, userIds, "jwt.user-id");
+    }
 
     // 토큰으로 유저 찾기
     public Optional<User> findUserByJwtToken(String authorizationHeader) {
+        Optional<TokenSubject> subject = getSubjectFromHeader(authorizationHeader);
+        if (subject.isEmpty()) return Optional.empty();
+
+        return findUser(subject.get());
+    }
+
+    // 토큰으로 유저 PK 찾기 (한 번 확인된 회원은 DB 조회 없음)
+    public Optional<Long> findUserIdByJwtToken(String authorizationHeader) {
+        Optional<TokenSubject> subject = getSubjectFromHeader(authorizationHeader);
+        if (subject.isEmpty()) return Optional.empty();
+
+        String key = userIdKey(subject.get().provider(), subject.get().providerId());
+        Long userId = userIds.getIfPresent(key);
+        if (userId != null) return Optional.of(userId);
+
+        Optional<User> foundUser = findUser(subject.get());
+        if (foundUser.isEmpty()) return Optional.empty();
+
+        userIds.put(key, foundUser.get().getId());
+        return Optional.of(foundUser.get().getId());
+    }
+
+    // 토큰의 회원 식별 정보 (provider, providerId)
+    private record TokenSubject(String provider, String providerId) {
+    }
+
+    // 헤더에서 토큰 추출 -> 클레임 검증 -> provider, providerId 추출
+    private Optional<TokenSubject> getSubjectFromHeader(String authorizationHeader) {
         String token = getTokenFromHeader(authorizationHeader);
         if (token == null) {
             log.warn("헤더에 JWT 토큰이 없음");
@@ -41,23 +95,29 @@ public class JwtUtil {
             return Optional.empty();
         }
 
-        String provider = getProviderFromToken(token);
-        String providerId = getProviderIdFromToken(token);
+        String provider = claims.get("provider", String.class);
+        String providerId = claims.get("providerId", String.class);
 
         if (provider == null || providerId == null) {
             log.warn("Provider 또는 providerId 가 JWT에 들어있지 않습니다.");
             return Optional.empty();
         }
 
-        Optional<User> foundUser = userRepository.findByProviderAndProviderId(provider, providerId);
+        return Optional.of(new TokenSubject(provider, providerId));
+    }
+
+    private Optional<User> findUser(TokenSubject subject) {
+        Optional<User> foundUser = userRepository.findByProviderAndProviderId(subject.provider(), subject.providerId());
         if (foundUser.isEmpty()) {
             log.warn("해당 provider, providerId를 가진 회원이 존재하지 않습니다.");
-            return Optional.empty();
         }
-
         return foundUser;
     }
 
+    private static String userIdKey(String provider, String providerId) {
+        return provider + "|" + providerId;
+    }
+
     private SecretKey getSigningKey() {
         log.info("secretKey : {}", secretKey);
 
@@ -0,0 +1,12 @@
+package com.server.scapture.schedule.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 구장 일자별 운영 일정표 키 (구장 PK, 일자)
+public record ScheduleSheetKey(Long fieldId, LocalDate date) {
+    // 프로젝션용 생성자 (운영 시작 시각 -> 일자)
+    public ScheduleSheetKey(Long fieldId, LocalDateTime startDate) {
+        this(fieldId, startDate.toLocalDate());
+    }
+}
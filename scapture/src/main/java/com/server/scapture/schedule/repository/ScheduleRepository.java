@@ -2,15 +2,21 @@ package com.server.scapture.schedule.repository;
 
 import com.server.scapture.domain.Field;
 import com.server.scapture.domain.Schedule;
+import com.server.scapture.schedule.dto.ScheduleSheetKey;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
     @Query("SELECT s FROM Schedule s WHERE s.field = :field AND DATE(s.startDate) = :date")
     List<Schedule> findScheduleByFieldBetweenMonthAndDay(Field field, LocalDate date);
+    @Query("SELECT s.id FROM Schedule s WHERE s.id IN :scheduleIds")
+    List<Long> findExistingIds(Collection<Long> scheduleIds);
+    @Query("SELECT DISTINCT new com.server.scapture.schedule.dto.ScheduleSheetKey(s.field.id, s.startDate) FROM Schedule s WHERE s.id IN :scheduleIds")
+    List<ScheduleSheetKey> findSheetKeysByIdIn(Collection<Long> scheduleIds);
 }
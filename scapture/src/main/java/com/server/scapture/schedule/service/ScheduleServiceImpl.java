@@ -5,6 +5,7 @@ import com.server.scapture.domain.Schedule;
 import com.server.scapture.field.repository.FieldRepository;
 import com.server.scapture.schedule.dto.CreateScheduleRequestDto;
 import com.server.scapture.schedule.repository.ScheduleRepository;
+import com.server.scapture.stadium.cache.ScheduleSheetCache;
 import com.server.scapture.util.response.CustomAPIResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -22,6 +23,7 @@ import java.util.Optional;
 public class ScheduleServiceImpl implements ScheduleService{
     private final ScheduleRepository scheduleRepository;
     private final FieldRepository fieldRepository;
+    private final ScheduleSheetCache scheduleSheetCache;
     private LocalDateTime convert(String date) {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
         LocalDate localDate = LocalDate.parse(date, formatter);
@@ -60,6 +62,8 @@ public class ScheduleServiceImpl implements ScheduleService{
                 // 3. Schedule 저장
                 scheduleRepository.save(schedule);
             }
+            // 3-1. 일정표 캐시 무효화
+            scheduleSheetCache.invalidate(field.getId(), startDate.toLocalDate());
             if(startDate.equals(endDate)) break;
             startDate = startDate.plusDays(1);
         }
@@ -0,0 +1,112 @@
+package com.server.scapture.stadium.cache;
+
+import com.server.scapture.domain.Schedule;
+import com.server.scapture.domain.VideoListCard;
+import com.server.scapture.stadium.dto.GetMainInfoPopularDto;
+import com.server.scapture.stadium.dto.GetMainInfoStadiumDto;
+import com.server.scapture.stadium.dto.StadiumSummaryDto;
+import com.server.scapture.stadium.search.StadiumIndexRefresher;
+import com.server.scapture.video.ranking.VideoLeaderboard;
+import com.server.scapture.video.ranking.VideoRank;
+import com.server.scapture.video.repository.VideoListCardRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 메인 조회 스냅샷 갱신
+// 인기 영상 1위 + 경기장 타일을 미리 만들어 두고 통째로 교체하므로 요청은 참조 하나만 읽는다.
+// 경기장 타일은 StadiumIndexRefresher가 적재한 목록을 그대로 사용하고 (DB 조회 없음), 목록 버전이 바뀌면 다시 만든다.
+// 경기장/이미지 변경 시 markDirty(), 좋아요로 1위가 바뀌면 주기 확인에서 다시 만든다.
+// 다른 인스턴스의 변경은 max-age(인기 영상 카드), stadium.search.rebuild-interval(경기장 타일)이 지나면 반영된다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MainInfoRefresher {
+    private final StadiumIndexRefresher stadiumIndexRefresher;
+    private final VideoListCardRepository videoListCardRepository;
+    private final VideoLeaderboard videoLeaderboard;
+    private final AtomicReference<MainInfoSnapshot> snapshot = new AtomicReference<>();
+    private final AtomicBoolean dirty = new AtomicBoolean(true);
+    @Value("${stadium.main-info.max-age:60000}")
+    private long maxAgeMillis;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        refresh();
+    }
+
+    public MainInfoSnapshot get() {
+        MainInfoSnapshot current = snapshot.get();
+        // 시작 직후 아직 만들어지지 않은 경우
+        if (current == null) {
+            refresh();
+            current = snapshot.get();
+        }
+        return current;
+    }
+
+    // 경기장 생성, 경기장 이미지 변경 시
+    public void markDirty() {
+        dirty.set(true);
+    }
+
+    // 변경이 있을 때만 다시 만듦
+    @Scheduled(fixedDelayString = "${stadium.main-info.refresh-interval:1000}")
+    public void refreshIfStale() {
+        MainInfoSnapshot current = snapshot.get();
+        boolean stale = current == null
+                || dirty.get()
+                || stadiumIndexRefresher.version() != current.stadiumsVersion()
+                || !Objects.equals(topVideoId(), current.popularVideoId())
+                || System.currentTimeMillis() - current.builtAt() >= maxAgeMillis;
+        if (stale) refresh();
+    }
+
+    public synchronized void refresh() {
+        // 만드는 도중 들어온 변경은 다음 주기에 반영
+        dirty.set(false);
+        // 1. 인기 영상 (리더보드 1위, 영상 목록 카드)
+        Long popularVideoId = topVideoId();
+        GetMainInfoPopularDto popular = null;
+        Optional<VideoListCard> foundCard = popularVideoId == null ? Optional.empty() : videoListCardRepository.findById(popularVideoId);
+        if (foundCard.isPresent()) {
+            VideoListCard card = foundCard.get();
+            popular = GetMainInfoPopularDto.builder()
+                    .videoId(card.getVideoId())
+                    .image(card.getImage())
+                    .stadiumName(card.getStadiumName())
+                    .date(Schedule.convertAll(card.getStartDate()))
+                    .hours(Schedule.convertHourAndMin(card.getStartDate(), card.getEndDate()))
+                    .build();
+        }
+        // 2. 제휴 구장 타일 (경기장 인덱스 목록, 버전을 먼저 읽어 도중에 바뀐 목록은 다음 주기에 반영)
+        long stadiumsVersion = stadiumIndexRefresher.version();
+        List<GetMainInfoStadiumDto> stadiums = new ArrayList<>();
+        for (StadiumSummaryDto stadium : stadiumIndexRefresher.stadiums()) {
+            stadiums.add(GetMainInfoStadiumDto.builder()
+                    .stadiumId(stadium.stadiumId())
+                    .image(stadium.image())
+                    .name(stadium.name())
+                    .build());
+        }
+        snapshot.set(new MainInfoSnapshot(popularVideoId, popular, stadiums.isEmpty() ? null : List.copyOf(stadiums),
+                stadiumsVersion, System.currentTimeMillis()));
+        log.debug("메인 조회 스냅샷 갱신: 경기장 {}개", stadiums.size());
+    }
+
+    private Long topVideoId() {
+        List<VideoRank> rankList = videoLeaderboard.top(1);
+        return rankList.isEmpty() ? null : rankList.get(0).videoId();
+    }
+}
@@ -0,0 +1,14 @@
+package com.server.scapture.stadium.cache;
+
+import com.server.scapture.stadium.dto.GetMainInfoPopularDto;
+import com.server.scapture.stadium.dto.GetMainInfoStadiumDto;
+
+import java.util.List;
+
+// 메인 조회 스냅샷 (공유 객체이므로 읽는 쪽에서 수정하지 않고 복사해서 사용)
+// popularVideoId: 스냅샷 생성 시 리더보드 1위 영상 PK (1위 변경 감지용, 카드가 없으면 popular는 null)
+// stadiums: 경기장이 없으면 null
+// stadiumsVersion: 스냅샷 생성 시 경기장 인덱스 목록 버전 (경기장 목록 변경 감지용)
+public record MainInfoSnapshot(Long popularVideoId, GetMainInfoPopularDto popular, List<GetMainInfoStadiumDto> stadiums,
+                               long stadiumsVersion, long builtAt) {
+}
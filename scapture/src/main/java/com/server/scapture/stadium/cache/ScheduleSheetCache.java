@@ -0,0 +1,80 @@
+package com.server.scapture.stadium.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.server.scapture.schedule.dto.ScheduleSheetKey;
+import com.server.scapture.schedule.repository.ScheduleRepository;
+import com.server.scapture.stadium.dto.GetScheduleByFieldAndDateResponseDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 구장 일자별 운영 일정표 캐시 (운영 일정 + 일정별 영상 수, Caffeine)
+// 운영 일정 생성, 영상 등록 시 해당 (구장, 일자)만 무효화한다.
+// 조회 전 받은 stamp 이후 무효화가 있었다면 적재한 일정표를 버려, 무효화 이전 값이 캐시에 남지 않도록 한다.
+// 최대 개수 초과 시 크기 기준으로 제거되며, 다른 인스턴스의 변경 반영을 위해 일정 시간 후 만료된다.
+@Component
+public class ScheduleSheetCache {
+    // IN 조회 한 번에 담을 운영 일정 수
+    private static final int CHUNK_SIZE = 1000;
+
+    private final ScheduleRepository scheduleRepository;
+    // (구장 PK, 일자) -> 일정표 (일정이 없으면 빈 리스트)
+    private final Cache<ScheduleSheetKey, List<GetScheduleByFieldAndDateResponseDto>> sheets;
+    // 무효화 횟수 (적재 도중 무효화 감지용)
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public ScheduleSheetCache(ScheduleRepository scheduleRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${stadium.schedule-sheet.cache-size:5000}") long maximumSize,
+                              @Value("${stadium.schedule-sheet.expire-after-write:300}") long expireAfterWriteSeconds) {
+        this.scheduleRepository = scheduleRepository;
+        this.sheets = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, sheets, "stadium.schedule-sheet");
+    }
+
+    public List<GetScheduleByFieldAndDateResponseDto> get(Long fieldId, LocalDate date) {
+        return sheets.getIfPresent(new ScheduleSheetKey(fieldId, date));
+    }
+
+    // DB 조회 전에 받아 두고 put에 넘김
+    public long stamp() {
+        return invalidations.get();
+    }
+
+    public void put(Long fieldId, LocalDate date, List<GetScheduleByFieldAndDateResponseDto> sheet, long stamp) {
+        ScheduleSheetKey key = new ScheduleSheetKey(fieldId, date);
+        sheets.put(key, List.copyOf(sheet));
+        // 조회 도중 무효화가 있었다면 버림 (무효화는 횟수 증가 후 제거하므로 어느 순서로 겹쳐도 남지 않음)
+        if (invalidations.get() != stamp) sheets.invalidate(key);
+    }
+
+    public void invalidate(Long fieldId, LocalDate date) {
+        invalidations.incrementAndGet();
+        sheets.invalidate(new ScheduleSheetKey(fieldId, date));
+    }
+
+    // 운영 일정 PK로 (구장, 일자)를 찾아 무효화
+    public void invalidateSchedules(Collection<Long> scheduleIds) {
+        if (scheduleIds.isEmpty()) return;
+        invalidations.incrementAndGet();
+        if (sheets.estimatedSize() == 0) return;
+        List<Long> idList = new ArrayList<>(scheduleIds);
+        for (int from = 0; from < idList.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = idList.subList(from, Math.min(from + CHUNK_SIZE, idList.size()));
+            sheets.invalidateAll(scheduleRepository.findSheetKeysByIdIn(chunk));
+        }
+    }
+}
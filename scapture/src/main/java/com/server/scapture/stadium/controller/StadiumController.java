@@ -1,9 +1,11 @@
 package com.server.scapture.stadium.controller;
 
 import com.server.scapture.stadium.dto.CreateStadiumRequestDto;
+import com.server.scapture.stadium.dto.UpdateStadiumCoordinatesRequestDto;
 import com.server.scapture.stadium.service.StadiumService;
 import com.server.scapture.util.response.CustomAPIResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
@@ -28,10 +30,30 @@ public class StadiumController {
     public ResponseEntity<CustomAPIResponse<?>> getStadiumsByCityAndState(@RequestParam("city") String city, @RequestParam("state") String state) {
         return stadiumService.getStadiumByCityAndState(city, state);
     }
+    // 도시 -> 지역별 경기장 수
+    @GetMapping("/facets")
+    public ResponseEntity<CustomAPIResponse<?>> getStadiumFacets() {
+        return stadiumService.getStadiumFacets();
+    }
     @GetMapping("/search")
     public ResponseEntity<CustomAPIResponse<?>> getStadiumsByKeyword(@RequestParam("keyword") String keyword){
         return stadiumService.getStadiumByKeyword(keyword);
     }
+    // 경기장 자동완성 (초성, 입력 중인 글자 지원)
+    @GetMapping("/autocomplete")
+    public ResponseEntity<CustomAPIResponse<?>> getStadiumAutocomplete(@RequestParam("keyword") String keyword, @RequestParam(value = "size", required = false) Integer size) {
+        return stadiumService.getStadiumAutocomplete(keyword, size);
+    }
+    // 주변 경기장 (반경 km, 가까운 순)
+    @GetMapping("/nearby")
+    public ResponseEntity<CustomAPIResponse<?>> getNearbyStadiums(@RequestParam("lat") Double latitude, @RequestParam("lon") Double longitude, @RequestParam(value = "radius", required = false) Double radius) {
+        return stadiumService.getNearbyStadiums(latitude, longitude, radius);
+    }
+    // 관리자 - 경기장 좌표 일괄 등록
+    @PutMapping("/coordinates")
+    public ResponseEntity<CustomAPIResponse<?>> updateStadiumCoordinates(@RequestHeader(HttpHeaders.AUTHORIZATION) String header, @RequestBody UpdateStadiumCoordinatesRequestDto updateStadiumCoordinatesRequestDto) {
+        return stadiumService.updateStadiumCoordinates(header, updateStadiumCoordinatesRequestDto);
+    }
     @GetMapping("/{stadiumId}/detail")
     public ResponseEntity<CustomAPIResponse<?>> getStadiumDetail(@PathVariable("stadiumId") Long stadiumId) {
         return stadiumService.getStadiumDetail(stadiumId);
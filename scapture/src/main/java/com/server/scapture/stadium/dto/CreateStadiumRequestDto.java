@@ -18,4 +18,6 @@ public class CreateStadiumRequestDto {
     private String hours;
     private Boolean isOutside;
     private String parking;
+    private Double latitude;
+    private Double longitude;
 }
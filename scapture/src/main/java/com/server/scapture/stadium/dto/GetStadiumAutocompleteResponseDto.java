@@ -0,0 +1,15 @@
+package com.server.scapture.stadium.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter @Setter
+@AllArgsConstructor
+@Builder
+public class GetStadiumAutocompleteResponseDto {
+    private Long stadiumId;
+    private String name;
+    private String location;
+}
@@ -0,0 +1,17 @@
+package com.server.scapture.stadium.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter @Setter
+@AllArgsConstructor
+@Builder
+public class GetStadiumFacetResponseDto {
+    private String city;
+    private int count;
+    private List<GetStadiumStateFacetDto> states;
+}
@@ -0,0 +1,14 @@
+package com.server.scapture.stadium.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter @Setter
+@AllArgsConstructor
+@Builder
+public class GetStadiumStateFacetDto {
+    private String state;
+    private int count;
+}
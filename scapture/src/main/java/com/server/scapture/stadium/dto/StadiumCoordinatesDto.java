@@ -0,0 +1,17 @@
+package com.server.scapture.stadium.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StadiumCoordinatesDto {
+    private Long stadiumId;
+    private Double latitude;
+    private Double longitude;
+}
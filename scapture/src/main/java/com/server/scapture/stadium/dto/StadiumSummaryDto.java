@@ -0,0 +1,16 @@
+package com.server.scapture.stadium.dto;
+
+// 경기장 목록/검색용 프로젝션 (경기장 + 첫 이미지, 설명 TEXT 컬럼 제외)
+public record StadiumSummaryDto(Long stadiumId, String name, String location, String city, String state,
+                                String hours, Boolean isOutside, String parking, String image,
+                                Double latitude, Double longitude) {
+    // 경기장만 조회하는 프로젝션용 (첫 이미지는 StadiumSummaryLoader가 채움)
+    public StadiumSummaryDto(Long stadiumId, String name, String location, String city, String state,
+                             String hours, Boolean isOutside, String parking, Double latitude, Double longitude) {
+        this(stadiumId, name, location, city, state, hours, isOutside, parking, null, latitude, longitude);
+    }
+
+    public StadiumSummaryDto withImage(String image) {
+        return new StadiumSummaryDto(stadiumId, name, location, city, state, hours, isOutside, parking, image, latitude, longitude);
+    }
+}
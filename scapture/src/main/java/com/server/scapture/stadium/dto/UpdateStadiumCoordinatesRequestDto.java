@@ -0,0 +1,18 @@
+package com.server.scapture.stadium.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+// 기존 경기장 좌표 일괄 등록 (백필)
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UpdateStadiumCoordinatesRequestDto {
+    private List<StadiumCoordinatesDto> data;
+}
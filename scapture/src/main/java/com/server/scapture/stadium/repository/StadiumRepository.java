@@ -1,15 +1,26 @@
 package com.server.scapture.stadium.repository;
 
 import com.server.scapture.domain.Stadium;
+import com.server.scapture.stadium.dto.StadiumSummaryDto;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface StadiumRepository extends JpaRepository<Stadium, Long> {
-    List<Stadium> findByCityAndState(String city, String state);
-    List<Stadium> findByCity(String city);
-    List<Stadium> findByNameContaining(String keyword);
+    // 목록/검색/위치 인덱스 적재용 (설명 TEXT 컬럼 제외, 첫 이미지는 StadiumSummaryLoader에서 일괄 조회)
+    @Query("SELECT new com.server.scapture.stadium.dto.StadiumSummaryDto(st.id, st.name, st.location, st.city, st.state, st.hours, st.isOutside, st.parking, st.latitude, st.longitude) " +
+            "FROM Stadium st ORDER BY st.id")
+    List<StadiumSummaryDto> findAllSummaries();
+    @Query("SELECT new com.server.scapture.stadium.dto.StadiumSummaryDto(st.id, st.name, st.location, st.city, st.state, st.hours, st.isOutside, st.parking, st.latitude, st.longitude) " +
+            "FROM Stadium st WHERE st.id IN :stadiumIds ORDER BY st.id")
+    List<StadiumSummaryDto> findSummariesByIdIn(Collection<Long> stadiumIds);
+    @Modifying
+    @Query("UPDATE Stadium st SET st.latitude = :latitude, st.longitude = :longitude WHERE st.id = :stadiumId")
+    int updateCoordinates(Long stadiumId, Double latitude, Double longitude);
 }
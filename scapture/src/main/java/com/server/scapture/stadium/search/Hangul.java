@@ -0,0 +1,73 @@
+package com.server.scapture.stadium.search;
+
+import java.util.Locale;
+import java.util.Map;
+
+// 한글 자모 분해/초성 추출
+// 겹받침, 이중 모음도 낱자로 나눠 입력 중인 글자("서우" -> "서울", "달" -> "닭")가 접두사로 맞도록 한다.
+final class Hangul {
+    private static final char SYLLABLE_BEGIN = 0xAC00;
+    private static final char SYLLABLE_END = 0xD7A3;
+    private static final String[] CHOSEONG = {
+            "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"};
+    private static final String[] JUNGSEONG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"};
+    private static final String[] JONGSEONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ",
+            "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"};
+    // 낱자로 입력된 겹자모
+    private static final Map<Character, String> COMPOUND_JAMO = Map.ofEntries(
+            Map.entry('ㄳ', "ㄱㅅ"), Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"), Map.entry('ㄺ', "ㄹㄱ"),
+            Map.entry('ㄻ', "ㄹㅁ"), Map.entry('ㄼ', "ㄹㅂ"), Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"),
+            Map.entry('ㄿ', "ㄹㅍ"), Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ"), Map.entry('ㅘ', "ㅗㅏ"),
+            Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"), Map.entry('ㅝ', "ㅜㅓ"), Map.entry('ㅞ', "ㅜㅔ"),
+            Map.entry('ㅟ', "ㅜㅣ"), Map.entry('ㅢ', "ㅡㅣ"));
+
+    private Hangul() {
+    }
+
+    // 소문자, 공백 제거
+    static String normalize(String text) {
+        if (text == null) return "";
+        StringBuilder builder = new StringBuilder(text.length());
+        for (char c : text.toLowerCase(Locale.ROOT).toCharArray()) {
+            if (!Character.isWhitespace(c)) builder.append(c);
+        }
+        return builder.toString();
+    }
+
+    // 자모 분해 ("서울" -> "ㅅㅓㅇㅜㄹ"), 한글이 아닌 문자는 그대로
+    static String decompose(String text) {
+        StringBuilder builder = new StringBuilder(text.length() * 3);
+        for (char c : text.toCharArray()) {
+            if (c >= SYLLABLE_BEGIN && c <= SYLLABLE_END) {
+                int index = c - SYLLABLE_BEGIN;
+                builder.append(CHOSEONG[index / 588])
+                        .append(JUNGSEONG[(index % 588) / 28])
+                        .append(JONGSEONG[index % 28]);
+            } else {
+                builder.append(COMPOUND_JAMO.getOrDefault(c, String.valueOf(c)));
+            }
+        }
+        return builder.toString();
+    }
+
+    // 초성 ("서울" -> "ㅅㅇ"), 한글이 아닌 문자는 그대로
+    static String chosung(String text) {
+        StringBuilder builder = new StringBuilder(text.length());
+        for (char c : text.toCharArray()) {
+            if (c >= SYLLABLE_BEGIN && c <= SYLLABLE_END) builder.append(CHOSEONG[(c - SYLLABLE_BEGIN) / 588]);
+            else builder.append(c);
+        }
+        return builder.toString();
+    }
+
+    // 자음 낱자로만 이루어진 검색어 ("ㅅㅇ")
+    static boolean isChosungOnly(String text) {
+        if (text.isEmpty()) return false;
+        for (char c : text.toCharArray()) {
+            if (c < 'ㄱ' || c > 'ㅎ') return false;
+        }
+        return true;
+    }
+}
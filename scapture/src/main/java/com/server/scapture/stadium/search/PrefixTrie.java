@@ -0,0 +1,33 @@
+package com.server.scapture.stadium.search;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 접두사 -> 경기장 PK 트라이
+// 각 노드가 하위 키의 PK를 모두 들고 있어 조회는 접두사 길이만큼만 내려간다. (추가만 지원)
+final class PrefixTrie {
+    private final Node root = new Node();
+
+    void add(String key, Long stadiumId) {
+        Node node = root;
+        for (char c : key.toCharArray()) {
+            node = node.children.computeIfAbsent(c, ignored -> new Node());
+            node.stadiumIds.add(stadiumId);
+        }
+    }
+
+    Set<Long> find(String prefix) {
+        Node node = root;
+        for (char c : prefix.toCharArray()) {
+            node = node.children.get(c);
+            if (node == null) return Set.of();
+        }
+        return Collections.unmodifiableSet(node.stadiumIds);
+    }
+
+    private static final class Node {
+        private final ConcurrentHashMap<Character, Node> children = new ConcurrentHashMap<>();
+        private final Set<Long> stadiumIds = ConcurrentHashMap.newKeySet();
+    }
+}
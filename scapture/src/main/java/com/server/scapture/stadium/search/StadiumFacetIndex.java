@@ -0,0 +1,122 @@
+package com.server.scapture.stadium.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.server.scapture.stadium.dto.StadiumSummaryDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 경기장 도시/지역 패싯 인덱스 (메모리)
+// 도시 -> 지역 -> 경기장 PK 트리와 개수를 미리 만들어 두고, 경기장 생성 시 새 트리로 교체한다.
+// 필터 결과 목록은 트리마다 (도시, 지역)별로 캐시하므로, 트리가 바뀌면 이전 트리의 목록은 함께 버려진다.
+@Component
+public class StadiumFacetIndex {
+    // 적재 전 빈 트리 (목록 캐시 없음)
+    private final AtomicReference<Tree> tree = new AtomicReference<>(Tree.of(List.of(), 0));
+    @Value("${stadium.facet.cache-size:1000}")
+    private int cacheSize;
+
+    // 전체 재적재, 경기장 생성/변경 시 새 트리로 교체 (StadiumIndexRefresher가 호출)
+    public synchronized void rebuild(List<StadiumSummaryDto> stadiums) {
+        tree.set(Tree.of(stadiums, cacheSize));
+    }
+
+    // 도시 -> 지역별 경기장 수
+    public List<CityFacet> facets() {
+        return tree.get().facets;
+    }
+
+    // 도시(지역이 비어 있으면 도시 전체) 경기장, PK 순
+    public List<StadiumSummaryDto> find(String city, String state) {
+        return tree.get().find(new FacetKey(city, state == null ? "" : state));
+    }
+
+    public record StateFacet(String state, int count) {
+    }
+
+    public record CityFacet(String city, int count, List<StateFacet> states) {
+    }
+
+    private record FacetKey(String city, String state) {
+    }
+
+    // 불변 트리 (교체 방식으로만 갱신)
+    private static final class Tree {
+        private final Map<Long, StadiumSummaryDto> stadiums;
+        // 도시 -> 지역 -> 경기장 PK (PK 순)
+        private final Map<String, Map<String, List<Long>>> cities;
+        // 경기장 수 내림차순, 같으면 이름순
+        private final List<CityFacet> facets;
+        // (도시, 지역) -> 경기장 목록 (지역이 빈 문자열이면 도시 전체, 최대 개수 초과 시 크기 기준으로 제거)
+        private final Cache<FacetKey, List<StadiumSummaryDto>> lists;
+
+        private Tree(Map<Long, StadiumSummaryDto> stadiums, Map<String, Map<String, List<Long>>> cities, List<CityFacet> facets, int cacheSize) {
+            this.stadiums = stadiums;
+            this.cities = cities;
+            this.facets = facets;
+            this.lists = Caffeine.newBuilder().maximumSize(cacheSize).build();
+        }
+
+        static Tree of(Collection<StadiumSummaryDto> stadiumList, int cacheSize) {
+            Map<Long, StadiumSummaryDto> stadiums = new TreeMap<>();
+            for (StadiumSummaryDto stadium : stadiumList) stadiums.put(stadium.stadiumId(), stadium);
+            // 1. 도시 -> 지역 -> PK (PK 순으로 넣으므로 목록도 PK 순)
+            Map<String, Map<String, List<Long>>> cities = new TreeMap<>();
+            for (StadiumSummaryDto stadium : stadiums.values()) {
+                if (stadium.city() == null) continue;
+                String state = stadium.state() == null ? "" : stadium.state();
+                cities.computeIfAbsent(stadium.city(), ignored -> new TreeMap<>())
+                        .computeIfAbsent(state, ignored -> new ArrayList<>())
+                        .add(stadium.stadiumId());
+            }
+            // 2. 개수
+            Comparator<StateFacet> stateOrder = Comparator.comparingInt(StateFacet::count).reversed().thenComparing(StateFacet::state);
+            Comparator<CityFacet> cityOrder = Comparator.comparingInt(CityFacet::count).reversed().thenComparing(CityFacet::city);
+            List<CityFacet> facets = new ArrayList<>(cities.size());
+            for (Map.Entry<String, Map<String, List<Long>>> city : cities.entrySet()) {
+                List<StateFacet> states = new ArrayList<>();
+                int cityCount = 0;
+                for (Map.Entry<String, List<Long>> state : city.getValue().entrySet()) {
+                    cityCount += state.getValue().size();
+                    // 지역 미등록 경기장은 도시 개수에만 포함
+                    if (!state.getKey().isEmpty()) states.add(new StateFacet(state.getKey(), state.getValue().size()));
+                }
+                states.sort(stateOrder);
+                facets.add(new CityFacet(city.getKey(), cityCount, List.copyOf(states)));
+            }
+            facets.sort(cityOrder);
+            return new Tree(stadiums, cities, List.copyOf(facets), cacheSize);
+        }
+
+        // 이 트리 기준 목록 (캐시에 없으면 만들어 넣음)
+        List<StadiumSummaryDto> find(FacetKey key) {
+            return lists.get(key, this::build);
+        }
+
+        private List<StadiumSummaryDto> build(FacetKey key) {
+            List<Long> stadiumIds = stadiumIdsOf(key);
+            List<StadiumSummaryDto> found = new ArrayList<>(stadiumIds.size());
+            for (Long stadiumId : stadiumIds) found.add(stadiums.get(stadiumId));
+            return List.copyOf(found);
+        }
+
+        List<Long> stadiumIdsOf(FacetKey key) {
+            Map<String, List<Long>> states = cities.get(key.city());
+            if (states == null) return List.of();
+            if (!key.state().isEmpty()) return states.getOrDefault(key.state(), List.of());
+            // 도시 전체 (PK 순)
+            List<Long> stadiumIds = new ArrayList<>();
+            states.values().forEach(stadiumIds::addAll);
+            stadiumIds.sort(null);
+            return stadiumIds;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.server.scapture.stadium.search;
+
+import com.server.scapture.stadium.dto.StadiumSummaryDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 경기장 인덱스 적재
+// 경기장 목록을 한 번만 조회해 검색/위치/패싯 인덱스에 함께 넣고, 메인 스냅샷이 읽을 목록으로 보관한다.
+// 시작 시 전체 적재, 경기장 생성/좌표 변경 시 증분 반영, 다른 인스턴스의 변경은 주기적인 재적재로 반영
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StadiumIndexRefresher {
+    private final StadiumSummaryLoader stadiumSummaryLoader;
+    private final StadiumSearchIndex stadiumSearchIndex;
+    private final StadiumSpatialIndex stadiumSpatialIndex;
+    private final StadiumFacetIndex stadiumFacetIndex;
+    // 경기장 목록 (PK 순, 공유 객체이므로 수정하지 말 것)
+    private final AtomicReference<List<StadiumSummaryDto>> stadiums = new AtomicReference<>(List.of());
+    // 목록이 바뀔 때마다 증가 (메인 스냅샷 변경 감지용)
+    private final AtomicLong version = new AtomicLong();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        refresh();
+    }
+
+    // DB 기준 재적재 (조회 1번으로 모든 인덱스 교체)
+    @Scheduled(initialDelayString = "${stadium.search.rebuild-interval:600000}", fixedDelayString = "${stadium.search.rebuild-interval:600000}")
+    public synchronized void refresh() {
+        List<StadiumSummaryDto> loaded = stadiumSummaryLoader.loadAll();
+        stadiumSearchIndex.rebuild(loaded);
+        stadiumSpatialIndex.rebuild(loaded);
+        stadiumFacetIndex.rebuild(loaded);
+        stadiums.set(List.copyOf(loaded));
+        version.incrementAndGet();
+        log.info("경기장 인덱스 적재 완료: {}개", loaded.size());
+    }
+
+    // 경기장 생성, 좌표 변경 시 (모든 인덱스와 목록이 같은 요약을 보도록 함께 교체)
+    // 검색 역색인은 추가만 하므로 이름/주소 변경은 refresh()로 반영할 것
+    public synchronized void put(Collection<StadiumSummaryDto> changed) {
+        if (changed.isEmpty()) return;
+        Map<Long, StadiumSummaryDto> updated = new TreeMap<>();
+        for (StadiumSummaryDto existing : stadiums.get()) updated.put(existing.stadiumId(), existing);
+        for (StadiumSummaryDto stadium : changed) {
+            stadiumSearchIndex.add(stadium);
+            stadiumSpatialIndex.put(stadium);
+            updated.put(stadium.stadiumId(), stadium);
+        }
+        List<StadiumSummaryDto> updatedList = List.copyOf(updated.values());
+        stadiumFacetIndex.rebuild(updatedList);
+        stadiums.set(updatedList);
+        version.incrementAndGet();
+    }
+
+    public List<StadiumSummaryDto> stadiums() {
+        return stadiums.get();
+    }
+
+    public long version() {
+        return version.get();
+    }
+}
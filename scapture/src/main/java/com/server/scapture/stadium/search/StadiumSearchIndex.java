@@ -0,0 +1,216 @@
+package com.server.scapture.stadium.search;
+
+import com.server.scapture.stadium.dto.StadiumSummaryDto;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 경기장 검색/자동완성 인덱스 (메모리)
+// 이름, 위치, 도시, 지역을 자모 분해 접두사 트라이, 초성 트라이, 1/2-gram 역색인(원문, 초성)에 넣는다.
+// 검색어 토큰마다 후보를 찾아 교집합한 뒤 (일치 종류, 이름 여부) 점수순으로 정렬한다.
+// 적재/증분 추가는 StadiumIndexRefresher가 호출한다.
+@Component
+public class StadiumSearchIndex {
+    // 이름 > 위치/도시/지역, 완전 일치 > 접두사 > 단어 접두사 > 포함
+    private static final int NAME_WEIGHT = 3;
+    private static final int EXACT = 8;
+    private static final int PREFIX = 6;
+    private static final int WORD_PREFIX = 4;
+    private static final int CONTAINS = 2;
+
+    private final AtomicReference<Index> index = new AtomicReference<>(new Index());
+
+    // 전체 재적재 (새 인덱스를 만든 뒤 교체)
+    public synchronized void rebuild(List<StadiumSummaryDto> stadiums) {
+        Index rebuilt = new Index();
+        stadiums.forEach(rebuilt::add);
+        index.set(rebuilt);
+    }
+
+    // 경기장 생성/좌표 변경 시 (같은 경기장이면 문서만 교체, 이름/주소 변경은 재적재로 반영)
+    public synchronized void add(StadiumSummaryDto stadium) {
+        index.get().add(stadium);
+    }
+
+    // 점수 내림차순 상위 limit개
+    public List<StadiumSummaryDto> search(String keyword, int limit) {
+        return index.get().search(keyword, limit);
+    }
+
+    private static final class Index {
+        private final ConcurrentHashMap<Long, Document> documents = new ConcurrentHashMap<>();
+        private final PrefixTrie jamoTrie = new PrefixTrie();
+        private final PrefixTrie chosungTrie = new PrefixTrie();
+        // 중간 포함 검색용 1/2-gram 역색인 (원문, 초성)
+        private final ConcurrentHashMap<String, Set<Long>> grams = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<String, Set<Long>> chosungGrams = new ConcurrentHashMap<>();
+
+        void add(StadiumSummaryDto stadium) {
+            Document document = new Document(stadium);
+            Long stadiumId = stadium.stadiumId();
+            for (int i = 0; i < document.normalized.length; i++) {
+                // 필드 전체 + 단어별 접두사
+                jamoTrie.add(document.jamo[i], stadiumId);
+                chosungTrie.add(document.chosung[i], stadiumId);
+                for (String word : document.wordJamo[i]) jamoTrie.add(word, stadiumId);
+                for (String word : document.wordChosung[i]) chosungTrie.add(word, stadiumId);
+                // 중간 포함 검색용 1/2-gram
+                addGrams(grams, document.normalized[i], stadiumId);
+                addGrams(chosungGrams, document.chosung[i], stadiumId);
+            }
+            documents.put(stadiumId, document);
+        }
+
+        private static void addGrams(ConcurrentHashMap<String, Set<Long>> postings, String text, Long stadiumId) {
+            for (int j = 0; j < text.length(); j++) {
+                postings.computeIfAbsent(text.substring(j, j + 1), ignored -> ConcurrentHashMap.newKeySet()).add(stadiumId);
+                if (j + 2 <= text.length()) {
+                    postings.computeIfAbsent(text.substring(j, j + 2), ignored -> ConcurrentHashMap.newKeySet()).add(stadiumId);
+                }
+            }
+        }
+
+        List<StadiumSummaryDto> search(String keyword, int limit) {
+            // 1. 토큰별 후보 교집합
+            List<String> tokens = new ArrayList<>();
+            if (keyword != null) {
+                for (String token : keyword.split("\\s+")) {
+                    String normalized = Hangul.normalize(token);
+                    if (!normalized.isEmpty()) tokens.add(normalized);
+                }
+            }
+            if (tokens.isEmpty()) return List.of();
+            Set<Long> candidates = null;
+            for (String token : tokens) {
+                Set<Long> matched = candidatesOf(token);
+                if (candidates == null) candidates = new HashSet<>(matched);
+                else candidates.retainAll(matched);
+                if (candidates.isEmpty()) return List.of();
+            }
+            // 2. 점수 계산 후 정렬 (동점이면 이름이 짧은 순, PK 순)
+            List<Scored> scoredList = new ArrayList<>(candidates.size());
+            for (Long stadiumId : candidates) {
+                Document document = documents.get(stadiumId);
+                if (document == null) continue;
+                int score = 0;
+                for (String token : tokens) score += document.score(token);
+                scoredList.add(new Scored(document, score));
+            }
+            scoredList.sort(Comparator.comparingInt(Scored::score).reversed()
+                    .thenComparingInt(scored -> scored.document().normalized[0].length())
+                    .thenComparing(scored -> scored.document().stadium.stadiumId()));
+            List<StadiumSummaryDto> result = new ArrayList<>(Math.min(limit, scoredList.size()));
+            for (Scored scored : scoredList) {
+                if (result.size() == limit) break;
+                result.add(scored.document().stadium);
+            }
+            return result;
+        }
+
+        private Set<Long> candidatesOf(String token) {
+            // 초성 검색어 ("ㅅㅇ"): 접두사 + 중간 포함
+            if (Hangul.isChosungOnly(token)) {
+                Set<Long> matched = new HashSet<>(chosungTrie.find(token));
+                matched.addAll(containing(chosungGrams, token, true));
+                return matched;
+            }
+            // 접두사 (입력 중인 마지막 글자 포함) + 중간 포함
+            Set<Long> matched = new HashSet<>(jamoTrie.find(Hangul.decompose(token)));
+            matched.addAll(containing(grams, token, false));
+            return matched;
+        }
+
+        // 중간 포함: 한 글자는 1-gram 역색인 그대로, 두 글자 이상은 2-gram 교집합 후 실제 포함 여부 확인
+        private Set<Long> containing(ConcurrentHashMap<String, Set<Long>> postings, String token, boolean chosungOnly) {
+            if (token.length() == 1) return postings.getOrDefault(token, Set.of());
+            Set<Long> contained = null;
+            for (int j = 0; j + 2 <= token.length(); j++) {
+                Set<Long> posting = postings.getOrDefault(token.substring(j, j + 2), Set.of());
+                if (contained == null) contained = new HashSet<>(posting);
+                else contained.retainAll(posting);
+                if (contained.isEmpty()) return Set.of();
+            }
+            Set<Long> matched = new HashSet<>();
+            for (Long stadiumId : contained) {
+                Document document = documents.get(stadiumId);
+                if (document != null && document.contains(token, chosungOnly)) matched.add(stadiumId);
+            }
+            return matched;
+        }
+    }
+
+    // 검색용으로 미리 변환해 둔 경기장 (0: 이름, 1: 위치, 2: 도시, 3: 지역)
+    private static final class Document {
+        private final StadiumSummaryDto stadium;
+        private final String[] normalized;
+        private final String[] jamo;
+        private final String[] chosung;
+        private final String[][] wordJamo;
+        private final String[][] wordChosung;
+
+        Document(StadiumSummaryDto stadium) {
+            this.stadium = stadium;
+            String[] fields = {stadium.name(), stadium.location(), stadium.city(), stadium.state()};
+            normalized = new String[fields.length];
+            jamo = new String[fields.length];
+            chosung = new String[fields.length];
+            wordJamo = new String[fields.length][];
+            wordChosung = new String[fields.length][];
+            for (int i = 0; i < fields.length; i++) {
+                normalized[i] = Hangul.normalize(fields[i]);
+                jamo[i] = Hangul.decompose(normalized[i]);
+                chosung[i] = Hangul.chosung(normalized[i]);
+                List<String> words = new ArrayList<>();
+                if (fields[i] != null) {
+                    for (String word : fields[i].split("[\\s,()/·-]+")) {
+                        String normalizedWord = Hangul.normalize(word);
+                        if (!normalizedWord.isEmpty()) words.add(normalizedWord);
+                    }
+                }
+                wordJamo[i] = words.stream().map(Hangul::decompose).toArray(String[]::new);
+                wordChosung[i] = words.stream().map(Hangul::chosung).toArray(String[]::new);
+            }
+        }
+
+        boolean contains(String token, boolean chosungOnly) {
+            for (String text : chosungOnly ? chosung : normalized) {
+                if (text.contains(token)) return true;
+            }
+            return false;
+        }
+
+        // 필드 중 가장 잘 맞는 일치 종류의 점수
+        int score(String token) {
+            boolean chosungOnly = Hangul.isChosungOnly(token);
+            String decomposed = chosungOnly ? token : Hangul.decompose(token);
+            int best = 0;
+            for (int i = 0; i < normalized.length; i++) {
+                String[] texts = chosungOnly ? chosung : jamo;
+                String[] words = chosungOnly ? wordChosung[i] : wordJamo[i];
+                int match = 0;
+                if ((chosungOnly ? chosung[i] : normalized[i]).equals(token)) match = EXACT;
+                else if (texts[i].startsWith(decomposed)) match = PREFIX;
+                else if (startsWithAny(words, decomposed)) match = WORD_PREFIX;
+                else if ((chosungOnly ? chosung[i] : normalized[i]).contains(token)) match = CONTAINS;
+                best = Math.max(best, i == 0 ? match * NAME_WEIGHT : match);
+            }
+            return best;
+        }
+
+        private static boolean startsWithAny(String[] words, String prefix) {
+            for (String word : words) {
+                if (word.startsWith(prefix)) return true;
+            }
+            return false;
+        }
+    }
+
+    private record Scored(Document document, int score) {
+    }
+}
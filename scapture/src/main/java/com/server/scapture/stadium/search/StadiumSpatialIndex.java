@@ -0,0 +1,109 @@
+package com.server.scapture.stadium.search;
+
+import com.server.scapture.stadium.dto.StadiumSummaryDto;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 경기장 위치 인덱스 (메모리, 위경도 격자)
+// 좌표가 있는 경기장을 CELL_DEGREES 크기 격자 칸에 넣고, 반경을 덮는 칸만 확인해 거리순으로 돌려준다.
+// 적재/경기장 생성은 StadiumIndexRefresher가, 좌표 등록 시 증분 반영은 경기장 서비스가 호출한다.
+@Component
+public class StadiumSpatialIndex {
+    // 격자 칸 크기 (위도 기준 약 5.5km)
+    private static final double CELL_DEGREES = 0.05;
+    private static final double EARTH_RADIUS_METERS = 6_371_000;
+    private static final double METERS_PER_DEGREE = Math.PI * EARTH_RADIUS_METERS / 180;
+
+    private final AtomicReference<Grid> grid = new AtomicReference<>(new Grid());
+
+    // 전체 재적재 (새 격자를 만든 뒤 교체)
+    public synchronized void rebuild(List<StadiumSummaryDto> stadiums) {
+        Grid rebuilt = new Grid();
+        for (StadiumSummaryDto stadium : stadiums) rebuilt.put(stadium);
+        grid.set(rebuilt);
+    }
+
+    // 경기장 생성, 좌표 등록/변경 시 (좌표가 없으면 제거)
+    public synchronized void put(StadiumSummaryDto stadium) {
+        grid.get().put(stadium);
+    }
+
+    // 반경(m) 안의 경기장, 가까운 순 최대 limit개
+    public List<NearbyStadium> nearby(double latitude, double longitude, double radiusMeters, int limit) {
+        return grid.get().nearby(latitude, longitude, radiusMeters, limit);
+    }
+
+    public record NearbyStadium(StadiumSummaryDto stadium, double distanceMeters) {
+    }
+
+    private static final class Grid {
+        // 칸 -> 경기장 PK
+        private final ConcurrentHashMap<Long, Set<Long>> cells = new ConcurrentHashMap<>();
+        // 경기장 PK -> (경기장, 칸)
+        private final ConcurrentHashMap<Long, Entry> stadiums = new ConcurrentHashMap<>();
+
+        void put(StadiumSummaryDto stadium) {
+            Entry old = stadiums.remove(stadium.stadiumId());
+            if (old != null) {
+                Set<Long> ids = cells.get(old.cell());
+                if (ids != null) ids.remove(stadium.stadiumId());
+            }
+            if (stadium.latitude() == null || stadium.longitude() == null) return;
+            long cell = cellOf(cellIndex(stadium.latitude()), cellIndex(stadium.longitude()));
+            stadiums.put(stadium.stadiumId(), new Entry(stadium, cell));
+            cells.computeIfAbsent(cell, ignored -> ConcurrentHashMap.newKeySet()).add(stadium.stadiumId());
+        }
+
+        List<NearbyStadium> nearby(double latitude, double longitude, double radiusMeters, int limit) {
+            // 1. 반경을 덮는 칸 범위 (경도 1도 길이는 위도에 따라 줄어듦)
+            double latitudeSpan = radiusMeters / METERS_PER_DEGREE;
+            double longitudeSpan = radiusMeters / (METERS_PER_DEGREE * Math.max(Math.cos(Math.toRadians(latitude)), 0.01));
+            int minLat = cellIndex(latitude - latitudeSpan), maxLat = cellIndex(latitude + latitudeSpan);
+            int minLon = cellIndex(longitude - longitudeSpan), maxLon = cellIndex(longitude + longitudeSpan);
+            // 2. 칸 안의 경기장 거리 계산
+            List<NearbyStadium> result = new ArrayList<>();
+            for (int latCell = minLat; latCell <= maxLat; latCell++) {
+                for (int lonCell = minLon; lonCell <= maxLon; lonCell++) {
+                    Set<Long> ids = cells.get(cellOf(latCell, lonCell));
+                    if (ids == null) continue;
+                    for (Long stadiumId : ids) {
+                        Entry entry = stadiums.get(stadiumId);
+                        if (entry == null) continue;
+                        double distance = distanceMeters(latitude, longitude, entry.stadium().latitude(), entry.stadium().longitude());
+                        if (distance <= radiusMeters) result.add(new NearbyStadium(entry.stadium(), distance));
+                    }
+                }
+            }
+            // 3. 가까운 순
+            result.sort(Comparator.comparingDouble(NearbyStadium::distanceMeters)
+                    .thenComparing(nearby -> nearby.stadium().stadiumId()));
+            return result.size() > limit ? result.subList(0, limit) : result;
+        }
+
+        private static int cellIndex(double degrees) {
+            return (int) Math.floor(degrees / CELL_DEGREES);
+        }
+
+        private static long cellOf(int latCell, int lonCell) {
+            return ((long) latCell << 32) | (lonCell & 0xffffffffL);
+        }
+
+        // 하버사인 거리
+        private static double distanceMeters(double lat1, double lon1, double lat2, double lon2) {
+            double dLat = Math.toRadians(lat2 - lat1);
+            double dLon = Math.toRadians(lon2 - lon1);
+            double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                    + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+            return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+        }
+
+        private record Entry(StadiumSummaryDto stadium, long cell) {
+        }
+    }
+}
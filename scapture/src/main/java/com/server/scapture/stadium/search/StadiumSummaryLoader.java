@@ -0,0 +1,55 @@
+package com.server.scapture.stadium.search;
+
+import com.server.scapture.image.dto.StadiumCoverImageDto;
+import com.server.scapture.image.repository.ImageRepository;
+import com.server.scapture.stadium.dto.StadiumSummaryDto;
+import com.server.scapture.stadium.repository.StadiumRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 경기장 목록 조회 (경기장 쿼리 1번 + 첫 이미지 IN 쿼리 COVER_IMAGE_CHUNK_SIZE개당 1번)
+// 전체 조회는 StadiumIndexRefresher가 주기마다 한 번 호출해 모든 인덱스와 메인 스냅샷에 공유한다.
+@Component
+@RequiredArgsConstructor
+public class StadiumSummaryLoader {
+    // IN 조회 한 번에 담을 경기장 수
+    private static final int COVER_IMAGE_CHUNK_SIZE = 1000;
+
+    private final StadiumRepository stadiumRepository;
+    private final ImageRepository imageRepository;
+
+    public List<StadiumSummaryDto> loadAll() {
+        return withCoverImages(stadiumRepository.findAllSummaries());
+    }
+
+    public List<StadiumSummaryDto> load(Collection<Long> stadiumIds) {
+        if (stadiumIds.isEmpty()) return List.of();
+        return withCoverImages(stadiumRepository.findSummariesByIdIn(stadiumIds));
+    }
+
+    private List<StadiumSummaryDto> withCoverImages(List<StadiumSummaryDto> stadiums) {
+        if (stadiums.isEmpty()) return stadiums;
+        Map<Long, String> coverImages = findCoverImageMap(stadiums.stream().map(StadiumSummaryDto::stadiumId).toList());
+        List<StadiumSummaryDto> result = new ArrayList<>(stadiums.size());
+        for (StadiumSummaryDto stadium : stadiums) result.add(stadium.withImage(coverImages.get(stadium.stadiumId())));
+        return result;
+    }
+
+    // 경기장 PK -> 첫 이미지 (COVER_IMAGE_CHUNK_SIZE 단위로 나눠 조회)
+    private Map<Long, String> findCoverImageMap(List<Long> stadiumIds) {
+        Map<Long, String> coverImages = new HashMap<>();
+        for (int from = 0; from < stadiumIds.size(); from += COVER_IMAGE_CHUNK_SIZE) {
+            List<Long> chunk = stadiumIds.subList(from, Math.min(from + COVER_IMAGE_CHUNK_SIZE, stadiumIds.size()));
+            for (StadiumCoverImageDto coverImage : imageRepository.findCoverImagesByStadiumIdIn(chunk)) {
+                coverImages.put(coverImage.stadiumId(), coverImage.image());
+            }
+        }
+        return coverImages;
+    }
+}
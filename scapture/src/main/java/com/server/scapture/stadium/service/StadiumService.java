@@ -2,6 +2,7 @@ package com.server.scapture.stadium.service;
 
 
 import com.server.scapture.stadium.dto.CreateStadiumRequestDto;
+import com.server.scapture.stadium.dto.UpdateStadiumCoordinatesRequestDto;
 import com.server.scapture.util.response.CustomAPIResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.multipart.MultipartFile;
@@ -13,7 +14,11 @@ public interface StadiumService {
     ResponseEntity<CustomAPIResponse<?>> getMainInfo();
     ResponseEntity<CustomAPIResponse<?>> createStadium(CreateStadiumRequestDto data, List<MultipartFile> images) throws IOException;
     ResponseEntity<CustomAPIResponse<?>> getStadiumByCityAndState(String city, String state);
+    ResponseEntity<CustomAPIResponse<?>> getStadiumFacets();
     ResponseEntity<CustomAPIResponse<?>> getStadiumByKeyword(String keyword);
+    ResponseEntity<CustomAPIResponse<?>> getStadiumAutocomplete(String keyword, Integer size);
+    ResponseEntity<CustomAPIResponse<?>> getNearbyStadiums(Double latitude, Double longitude, Double radius);
+    ResponseEntity<CustomAPIResponse<?>> updateStadiumCoordinates(String header, UpdateStadiumCoordinatesRequestDto updateStadiumCoordinatesRequestDto);
     ResponseEntity<CustomAPIResponse<?>> getStadiumDetail(Long stadiumId);
     ResponseEntity<CustomAPIResponse<?>> getScheduleByFieldAndDate(Long fieldId, String date);
 }
@@ -5,69 +5,101 @@ import com.server.scapture.field.dto.SimpleFieldResponseDto;
 import com.server.scapture.field.repository.FieldRepository;
 import com.server.scapture.image.dto.SimpleImageResponseDto;
 import com.server.scapture.image.repository.ImageRepository;
+import com.server.scapture.oauth.jwt.JwtUtil;
 import com.server.scapture.schedule.repository.ScheduleRepository;
+import com.server.scapture.stadium.cache.MainInfoRefresher;
+import com.server.scapture.stadium.cache.MainInfoSnapshot;
+import com.server.scapture.stadium.cache.ScheduleSheetCache;
 import com.server.scapture.stadium.dto.*;
 import com.server.scapture.stadium.repository.StadiumRepository;
+import com.server.scapture.stadium.search.StadiumFacetIndex;
+import com.server.scapture.stadium.search.StadiumIndexRefresher;
+import com.server.scapture.stadium.search.StadiumSearchIndex;
+import com.server.scapture.stadium.search.StadiumSpatialIndex;
+import com.server.scapture.stadium.search.StadiumSummaryLoader;
 import com.server.scapture.util.S3.S3Service;
+import com.server.scapture.util.S3.UrlAudience;
 import com.server.scapture.util.response.CustomAPIResponse;
+import com.server.scapture.util.transaction.TransactionUtil;
+import com.server.scapture.video.cache.VideoCardCache;
+import com.server.scapture.video.cache.VideoListCardSynchronizer;
+import com.server.scapture.video.dto.ScheduleVideoCountDto;
 import com.server.scapture.video.repository.VideoRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class StadiumServiceImpl implements StadiumService{
+    // 자동완성 결과 수
+    private static final int DEFAULT_AUTOCOMPLETE_SIZE = 10;
+    private static final int MAX_AUTOCOMPLETE_SIZE = 20;
+    // 주변 경기장 반경(km), 결과 수
+    private static final double DEFAULT_NEARBY_RADIUS_KM = 5;
+    private static final double MAX_NEARBY_RADIUS_KM = 50;
+    private static final int MAX_NEARBY_SIZE = 100;
     private final StadiumRepository stadiumRepository;
     private final ImageRepository imageRepository;
     private final FieldRepository fieldRepository;
     private final ScheduleRepository scheduleRepository;
     private final VideoRepository videoRepository;
+    private final ScheduleSheetCache scheduleSheetCache;
+    private final MainInfoRefresher mainInfoRefresher;
+    private final VideoCardCache videoCardCache;
+    private final VideoListCardSynchronizer videoListCardSynchronizer;
+    private final StadiumSearchIndex stadiumSearchIndex;
+    private final StadiumSpatialIndex stadiumSpatialIndex;
+    private final StadiumFacetIndex stadiumFacetIndex;
+    private final StadiumSummaryLoader stadiumSummaryLoader;
+    private final StadiumIndexRefresher stadiumIndexRefresher;
     private final S3Service s3Service;
+    private final JwtUtil jwtUtil;
 
     @Override
     public ResponseEntity<CustomAPIResponse<?>> getMainInfo() {
-        // 1. 인기 영상
-        // 1-1. 영상 조회
-        Video video = videoRepository.findTop1ByOrderByLikeCountDesc().get();
-        // 1-2. 영상 경기장, 구장, 운영 일정 조회
-        Schedule schedule = scheduleRepository.findById(video.getSchedule().getId()).get();
-        Field field = fieldRepository.findById(schedule.getField().getId()).get();
-        Stadium stadium = stadiumRepository.findById(field.getStadium().getId()).get();
-        // 1-2. Dto 생성
-        GetMainInfoPopularDto popularDto = GetMainInfoPopularDto.builder()
-                .videoId(video.getId())
-                .image(video.getImage())
-                .stadiumName(stadium.getName())
-                .date(schedule.convertAll())
-                .hours(schedule.convertHourAndMin())
-                .build();
-        // 2. 제휴 구장 List
-        // 2-1. 영상 리스트 조회
-        List<Stadium> stadiumList = stadiumRepository.findAll();
-        // 2-2. Dto 생성
-        List<GetMainInfoStadiumDto> stadiumDtoList;
-        if(stadiumList.isEmpty()) stadiumDtoList = null;
-        else stadiumDtoList = new ArrayList<>();
-        for (Stadium foundStadium : stadiumList) {
-            String image = imageRepository.findFirst1ByStadium(foundStadium).get().getImage();
-            GetMainInfoStadiumDto stadiumDto = GetMainInfoStadiumDto.builder()
-                    .stadiumId(foundStadium.getId())
-                    .image(image)
-                    .name(foundStadium.getName())
+        // 1. 미리 만든 스냅샷 조회
+        MainInfoSnapshot snapshot = mainInfoRefresher.get();
+        // 2. 인기 영상 (공유 스냅샷이므로 복사 후 presigned URL)
+        GetMainInfoPopularDto popularDto = null;
+        GetMainInfoPopularDto popular = snapshot.popular();
+        if (popular != null) {
+            popularDto = GetMainInfoPopularDto.builder()
+                    .videoId(popular.getVideoId())
+                    .image(s3Service.presign(popular.getImage(), UrlAudience.ANONYMOUS))
+                    .stadiumName(popular.getStadiumName())
+                    .date(popular.getDate())
+                    .hours(popular.getHours())
                     .build();
-            stadiumDtoList.add(stadiumDto);
         }
-        // 3. Response
+        // 3. 제휴 구장 List
+        List<GetMainInfoStadiumDto> stadiumDtoList = null;
+        if (snapshot.stadiums() != null) {
+            stadiumDtoList = new ArrayList<>(snapshot.stadiums().size());
+            for (GetMainInfoStadiumDto stadium : snapshot.stadiums()) {
+                GetMainInfoStadiumDto stadiumDto = GetMainInfoStadiumDto.builder()
+                        .stadiumId(stadium.getStadiumId())
+                        .image(s3Service.presign(stadium.getImage(), UrlAudience.ANONYMOUS))
+                        .name(stadium.getName())
+                        .build();
+                stadiumDtoList.add(stadiumDto);
+            }
+        }
+        // 4. Response
         GetMainInfoResponseDto data = GetMainInfoResponseDto.builder()
                 .popular(popularDto)
                 .stadiums(stadiumDtoList)
@@ -80,6 +112,13 @@ public class StadiumServiceImpl implements StadiumService{
     // 관리자 - 경기장 생성
     @Override
     public ResponseEntity<CustomAPIResponse<?>> createStadium(CreateStadiumRequestDto data, List<MultipartFile> images) throws IOException {
+        // 0. 좌표 검증 (선택 입력, 입력했다면 둘 다 범위 안이어야 함)
+        if ((data.getLatitude() != null || data.getLongitude() != null) && !isValidCoordinates(data.getLatitude(), data.getLongitude())) {
+            CustomAPIResponse<Object> responseBody = CustomAPIResponse.createFailWithoutData(HttpStatus.BAD_REQUEST.value(), "유효하지 않은 좌표입니다.");
+            return ResponseEntity
+                    .status(HttpStatus.BAD_REQUEST)
+                    .body(responseBody);
+        }
         // 1. Stadium 생성
         // 1-1. Stadium 생성
         Stadium stadium = Stadium.builder()
@@ -91,15 +130,19 @@ public class StadiumServiceImpl implements StadiumService{
                 .hours(data.getHours())
                 .isOutside(data.getIsOutside())
                 .parking(data.getParking())
+                .latitude(data.getLatitude())
+                .longitude(data.getLongitude())
                 .build();
         // 1-2. 저장
         stadiumRepository.save(stadium);
         // 2. Stadium Image 생성
         String dirName = stadium.getName();
         int index = 1;
+        String firstImage = null;
         for (MultipartFile image : images) {
             String filename = dirName + index;
             String imageUrl = s3Service.upload(image, dirName, filename);
+            if (firstImage == null) firstImage = imageUrl;
             Image stadiumImage = Image.builder()
                     .stadium(stadium)
                     .image(imageUrl)
@@ -107,6 +150,14 @@ public class StadiumServiceImpl implements StadiumService{
             imageRepository.save(stadiumImage);
             index++;
         }
+        // 2-1. 경기장 이미지가 바뀌었으므로 영상 카드 캐시 무효화, 목록 카드 갱신
+        videoCardCache.evictStadium(stadium.getId());
+        videoListCardSynchronizer.refreshStadium(stadium.getId());
+        // 2-2. 검색/위치/패싯 인덱스, 메인 경기장 목록 추가
+        StadiumSummaryDto summary = new StadiumSummaryDto(stadium.getId(), stadium.getName(), stadium.getLocation(), stadium.getCity(), stadium.getState(),
+                stadium.getHours(), stadium.getIsOutside(), stadium.getParking(), firstImage, stadium.getLatitude(), stadium.getLongitude());
+        stadiumIndexRefresher.put(List.of(summary));
+        mainInfoRefresher.markDirty();
         // 3. Response
         // 3-1. data
         CreateStadiumResponseDto responseDto = CreateStadiumResponseDto.builder()
@@ -122,12 +173,10 @@ public class StadiumServiceImpl implements StadiumService{
     // Stadium - 경기장 조회
     @Override
     public ResponseEntity<CustomAPIResponse<?>> getStadiumByCityAndState(String city, String state) {
-        // 1. 조건에 맞는 Stadium 조회
-        List<Stadium> foundStadiums;
-        // 1-1. City 1개 조회
-        if(state.isEmpty()) foundStadiums = stadiumRepository.findByCity(city);
+        // 1. 조건에 맞는 Stadium 조회 (패싯 인덱스, (도시, 지역)별 캐시)
+        // 1-1. City 1개 조회 (state가 빈 문자열)
         // 1-2. City State 2개 조회
-        else foundStadiums = stadiumRepository.findByCityAndState(city, state);
+        List<StadiumSummaryDto> foundStadiums = stadiumFacetIndex.find(city, state);
         // 조회된 컨텐츠 없음
         if (foundStadiums.isEmpty()) {
             // 1-1. responseBody
@@ -138,23 +187,17 @@ public class StadiumServiceImpl implements StadiumService{
                     .body(responseBody);
         }
         // 2. Response
-        // 2-1. data
+        // 2-1. data (이미지는 인덱스에 함께 적재된 첫 이미지)
         List<GetStadiumResponseDto> data = new ArrayList<>();
-        for (Stadium stadium : foundStadiums) {
-            // 2-1-1. Image 1개 찾기
-            Optional<Image> foundImage = imageRepository.findFirst1ByStadium(stadium);
-            String image = null;
-            // 2-1-2. Image가 없는 경우 -> null 값
-            if (foundImage.isPresent()) image = foundImage.get().getImage();
-            // 2-1-2. response 만들기
+        for (StadiumSummaryDto stadium : foundStadiums) {
             GetStadiumResponseDto response = GetStadiumResponseDto.builder()
-                    .stadiumId(stadium.getId())
-                    .name(stadium.getName())
-                    .location(stadium.getLocation())
-                    .hours(stadium.getHours())
-                    .isOutside(stadium.getIsOutside())
-                    .parking(stadium.getParking())
-                    .image(image)
+                    .stadiumId(stadium.stadiumId())
+                    .name(stadium.name())
+                    .location(stadium.location())
+                    .hours(stadium.hours())
+                    .isOutside(stadium.isOutside())
+                    .parking(stadium.parking())
+                    .image(s3Service.presign(stadium.image(), UrlAudience.ANONYMOUS))
                     .build();
             data.add(response);
         }
@@ -165,11 +208,41 @@ public class StadiumServiceImpl implements StadiumService{
                 .status(HttpStatus.OK)
                 .body(responseBody);
     }
+    // Stadium - 도시/지역별 경기장 수
+    @Override
+    public ResponseEntity<CustomAPIResponse<?>> getStadiumFacets() {
+        // 1. 패싯 인덱스 조회
+        List<StadiumFacetIndex.CityFacet> cityFacets = stadiumFacetIndex.facets();
+        // 2. Response
+        // 2-1. data
+        List<GetStadiumFacetResponseDto> data = new ArrayList<>(cityFacets.size());
+        for (StadiumFacetIndex.CityFacet cityFacet : cityFacets) {
+            List<GetStadiumStateFacetDto> states = new ArrayList<>(cityFacet.states().size());
+            for (StadiumFacetIndex.StateFacet stateFacet : cityFacet.states()) {
+                states.add(GetStadiumStateFacetDto.builder()
+                        .state(stateFacet.state())
+                        .count(stateFacet.count())
+                        .build());
+            }
+            GetStadiumFacetResponseDto response = GetStadiumFacetResponseDto.builder()
+                    .city(cityFacet.city())
+                    .count(cityFacet.count())
+                    .states(states)
+                    .build();
+            data.add(response);
+        }
+        // 2-2. ResponseBody
+        CustomAPIResponse<List<GetStadiumFacetResponseDto>> responseBody = CustomAPIResponse.createSuccess(HttpStatus.OK.value(), data, "경기장 지역 조회 완료되었습니다.");
+        // 2-3. ResponseEntity
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(responseBody);
+    }
     // Stadium - 경기장 검색
     @Override
     public ResponseEntity<CustomAPIResponse<?>> getStadiumByKeyword(String keyword) {
-        // 1. Keyword를 통해 경기장 검색
-        List<Stadium> foundStadium = stadiumRepository.findByNameContaining(keyword);
+        // 1. Keyword를 통해 경기장 검색 (메모리 검색 인덱스, 점수순)
+        List<StadiumSummaryDto> foundStadium = stadiumSearchIndex.search(keyword, Integer.MAX_VALUE);
         // 조회된 컨텐츠 없음
         if (foundStadium.isEmpty()) {
             // 1-1. responseBody
@@ -180,23 +253,17 @@ public class StadiumServiceImpl implements StadiumService{
                     .body(responseBody);
         }
         // 2. Response
-        // 2-1. data
+        // 2-1. data (이미지는 인덱스에 함께 적재된 첫 이미지)
         List<GetStadiumResponseDto> data = new ArrayList<>();
-        for (Stadium stadium : foundStadium) {
-            // 2-1-1. Image 1개 찾기
-            Optional<Image> foundImage = imageRepository.findFirst1ByStadium(stadium);
-            String image = null;
-            // 2-1-2. Image가 없는 경우 -> null 값
-            if (foundImage.isPresent()) image = foundImage.get().getImage();
-            // 2-1-2. response 만들기
+        for (StadiumSummaryDto stadium : foundStadium) {
             GetStadiumResponseDto response = GetStadiumResponseDto.builder()
-                    .stadiumId(stadium.getId())
-                    .name(stadium.getName())
-                    .location(stadium.getLocation())
-                    .hours(stadium.getHours())
-                    .isOutside(stadium.getIsOutside())
-                    .parking(stadium.getParking())
-                    .image(image)
+                    .stadiumId(stadium.stadiumId())
+                    .name(stadium.name())
+                    .location(stadium.location())
+                    .hours(stadium.hours())
+                    .isOutside(stadium.isOutside())
+                    .parking(stadium.parking())
+                    .image(s3Service.presign(stadium.image(), UrlAudience.ANONYMOUS))
                     .build();
             data.add(response);
         }
@@ -207,6 +274,124 @@ public class StadiumServiceImpl implements StadiumService{
                 .status(HttpStatus.OK)
                 .body(responseBody);
     }
+    // Stadium - 경기장 자동완성
+    @Override
+    public ResponseEntity<CustomAPIResponse<?>> getStadiumAutocomplete(String keyword, Integer size) {
+        // 1. 검색 인덱스 조회 (기본 10개, 최대 MAX_AUTOCOMPLETE_SIZE)
+        int limit = size == null ? DEFAULT_AUTOCOMPLETE_SIZE : Math.max(1, Math.min(size, MAX_AUTOCOMPLETE_SIZE));
+        List<StadiumSummaryDto> foundStadium = stadiumSearchIndex.search(keyword, limit);
+        // 2. Response
+        // 2-1. data
+        List<GetStadiumAutocompleteResponseDto> data = new ArrayList<>(foundStadium.size());
+        for (StadiumSummaryDto stadium : foundStadium) {
+            GetStadiumAutocompleteResponseDto response = GetStadiumAutocompleteResponseDto.builder()
+                    .stadiumId(stadium.stadiumId())
+                    .name(stadium.name())
+                    .location(stadium.location())
+                    .build();
+            data.add(response);
+        }
+        // 2-2. ResponseBody
+        CustomAPIResponse<List<GetStadiumAutocompleteResponseDto>> responseBody = CustomAPIResponse.createSuccess(HttpStatus.OK.value(), data, "경기장 자동완성 조회 완료되었습니다.");
+        // 2-3. ResponseEntity
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(responseBody);
+    }
+    // Stadium - 주변 경기장 조회
+    @Override
+    public ResponseEntity<CustomAPIResponse<?>> getNearbyStadiums(Double latitude, Double longitude, Double radius) {
+        // 1. 요청 검증 (반경 기본 5km, 최대 50km)
+        double radiusKm = radius == null ? DEFAULT_NEARBY_RADIUS_KM : radius;
+        // 1-1. 실패
+        if (!isValidCoordinates(latitude, longitude) || radiusKm <= 0 || radiusKm > MAX_NEARBY_RADIUS_KM) {
+            CustomAPIResponse<Object> responseBody = CustomAPIResponse.createFailWithoutData(HttpStatus.BAD_REQUEST.value(), "유효하지 않은 위치 또는 반경입니다.");
+            return ResponseEntity
+                    .status(HttpStatus.BAD_REQUEST)
+                    .body(responseBody);
+        }
+        // 2. 위치 인덱스 조회 (가까운 순)
+        List<StadiumSpatialIndex.NearbyStadium> nearbyList = stadiumSpatialIndex.nearby(latitude, longitude, radiusKm * 1000, MAX_NEARBY_SIZE);
+        // 3. Response
+        // 3-1. data
+        List<GetStadiumNearbyResponseDto> data = new ArrayList<>(nearbyList.size());
+        for (StadiumSpatialIndex.NearbyStadium nearby : nearbyList) {
+            StadiumSummaryDto stadium = nearby.stadium();
+            GetStadiumNearbyResponseDto response = GetStadiumNearbyResponseDto.builder()
+                    .stadiumId(stadium.stadiumId())
+                    .name(stadium.name())
+                    .location(stadium.location())
+                    .hours(stadium.hours())
+                    .isOutside(stadium.isOutside())
+                    .parking(stadium.parking())
+                    .image(s3Service.presign(stadium.image(), UrlAudience.ANONYMOUS))
+                    .distance((int) Math.round(nearby.distanceMeters()))
+                    .build();
+            data.add(response);
+        }
+        // 3-2. ResponseBody
+        CustomAPIResponse<List<GetStadiumNearbyResponseDto>> responseBody = CustomAPIResponse.createSuccess(HttpStatus.OK.value(), data, "주변 경기장 조회 완료되었습니다.");
+        // 3-3. ResponseEntity
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(responseBody);
+    }
+    // 관리자 - 경기장 좌표 일괄 등록
+    @Override
+    @Transactional
+    public ResponseEntity<CustomAPIResponse<?>> updateStadiumCoordinates(String header, UpdateStadiumCoordinatesRequestDto updateStadiumCoordinatesRequestDto) {
+        // 0. 관리자 확인
+        Optional<User> foundUser = jwtUtil.findUserByJwtToken(header);
+        // 0-1. 사용자 없음
+        if (foundUser.isEmpty()) {
+            CustomAPIResponse<Object> responseBody = CustomAPIResponse.createFailWithoutData(HttpStatus.NOT_FOUND.value(), "존재하지 않는 사용자입니다.");
+            return ResponseEntity
+                    .status(HttpStatus.NOT_FOUND)
+                    .body(responseBody);
+        }
+        // 0-2. 권한 없음
+        if (foundUser.get().getRole() != Role.ADMIN) {
+            CustomAPIResponse<Object> responseBody = CustomAPIResponse.createFailWithoutData(HttpStatus.FORBIDDEN.value(), "관리자 권한이 없습니다.");
+            return ResponseEntity
+                    .status(HttpStatus.FORBIDDEN)
+                    .body(responseBody);
+        }
+        // 1. 요청 검증
+        List<StadiumCoordinatesDto> coordinatesList = updateStadiumCoordinatesRequestDto.getData();
+        boolean valid = coordinatesList != null && !coordinatesList.isEmpty();
+        if (valid) {
+            for (StadiumCoordinatesDto coordinates : coordinatesList) {
+                if (coordinates.getStadiumId() == null || !isValidCoordinates(coordinates.getLatitude(), coordinates.getLongitude())) valid = false;
+            }
+        }
+        // 1-1. 실패
+        if (!valid) {
+            CustomAPIResponse<Object> responseBody = CustomAPIResponse.createFailWithoutData(HttpStatus.BAD_REQUEST.value(), "유효하지 않은 좌표입니다.");
+            return ResponseEntity
+                    .status(HttpStatus.BAD_REQUEST)
+                    .body(responseBody);
+        }
+        // 2. 좌표 저장 (없는 경기장은 무시)
+        Set<Long> updatedIds = new HashSet<>();
+        for (StadiumCoordinatesDto coordinates : coordinatesList) {
+            int updated = stadiumRepository.updateCoordinates(coordinates.getStadiumId(), coordinates.getLatitude(), coordinates.getLongitude());
+            if (updated > 0) updatedIds.add(coordinates.getStadiumId());
+        }
+        // 3. 커밋 후 경기장 인덱스(검색/위치/패싯, 메인 목록) 반영
+        TransactionUtil.afterCommit(() -> {
+            if (!updatedIds.isEmpty()) stadiumIndexRefresher.put(stadiumSummaryLoader.load(updatedIds));
+        });
+        // 4. Response
+        CustomAPIResponse<Object> responseBody = CustomAPIResponse.createSuccessWithoutData(HttpStatus.OK.value(), "경기장 좌표 등록이 완료되었습니다.");
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(responseBody);
+    }
+    private static boolean isValidCoordinates(Double latitude, Double longitude) {
+        return latitude != null && longitude != null
+                && latitude >= -90 && latitude <= 90
+                && longitude >= -180 && longitude <= 180;
+    }
     // Stadium - 경기장 세부 조회
     @Override
     public ResponseEntity<CustomAPIResponse<?>> getStadiumDetail(Long stadiumId) {
@@ -234,7 +419,7 @@ public class StadiumServiceImpl implements StadiumService{
             for (Image image : foundImages) {
                 SimpleImageResponseDto imageDto = SimpleImageResponseDto.builder()
                         .imageId(image.getId())
-                        .image(image.getImage())
+                        .image(s3Service.presign(image.getImage(), UrlAudience.ANONYMOUS))
                         .build();
                 images.add(imageDto);
             }
@@ -293,33 +478,45 @@ public class StadiumServiceImpl implements StadiumService{
                     .status(HttpStatus.FORBIDDEN)
                     .body(responseBody);
         }
-        // 2. Field 조회
-        Optional<Field> foundField = fieldRepository.findById(fieldId);
-        // 2-1. 실패
-        if (foundField.isEmpty()) {
-            CustomAPIResponse<Object> responseBody = CustomAPIResponse.createFailWithoutData(HttpStatus.NOT_FOUND.value(), "존재하지 않는 구장입니다.");
-            return ResponseEntity
-                    .status(HttpStatus.NOT_FOUND)
-                    .body(responseBody);
-        }
-        // 2-2. 성공
-        Field field = foundField.get();
-        // 3. Schedule 조회
-        List<Schedule> scheduleList = scheduleRepository.findScheduleByFieldBetweenMonthAndDay(field, parsedDate);
-        // 4. Response
-        // 4-1. data
-        List<GetScheduleByFieldAndDateResponseDto> data = null;
-        if (!scheduleList.isEmpty()) {
-            data = new ArrayList<>();
+        // 2. 캐시 조회
+        List<GetScheduleByFieldAndDateResponseDto> sheet = scheduleSheetCache.get(fieldId, parsedDate);
+        if (sheet == null) {
+            long stamp = scheduleSheetCache.stamp();
+            // 2-1. Field 조회
+            Optional<Field> foundField = fieldRepository.findById(fieldId);
+            // 2-1-1. 실패
+            if (foundField.isEmpty()) {
+                CustomAPIResponse<Object> responseBody = CustomAPIResponse.createFailWithoutData(HttpStatus.NOT_FOUND.value(), "존재하지 않는 구장입니다.");
+                return ResponseEntity
+                        .status(HttpStatus.NOT_FOUND)
+                        .body(responseBody);
+            }
+            // 2-1-2. 성공
+            Field field = foundField.get();
+            // 3. Schedule 조회
+            List<Schedule> scheduleList = scheduleRepository.findScheduleByFieldBetweenMonthAndDay(field, parsedDate);
+            // 3-1. 일정별 영상 수 (GROUP BY 단일 쿼리)
+            Map<Long, Long> videoCountMap = new HashMap<>();
+            if (!scheduleList.isEmpty()) {
+                for (ScheduleVideoCountDto videoCount : videoRepository.countBySchedules(scheduleList)) {
+                    videoCountMap.put(videoCount.scheduleId(), videoCount.videoCount());
+                }
+            }
+            // 3-2. 일정표 생성 후 캐시
+            sheet = new ArrayList<>();
             for (Schedule schedule : scheduleList) {
                 GetScheduleByFieldAndDateResponseDto responseDto = GetScheduleByFieldAndDateResponseDto.builder()
                         .scheduleId(schedule.getId())
                         .hours(schedule.convertHourAndMin())
-                        .videoCount(videoRepository.countBySchedule(schedule))
+                        .videoCount(videoCountMap.getOrDefault(schedule.getId(), 0L).intValue())
                         .build();
-                data.add(responseDto);
+                sheet.add(responseDto);
             }
+            scheduleSheetCache.put(fieldId, parsedDate, sheet, stamp);
         }
+        // 4. Response
+        // 4-1. data
+        List<GetScheduleByFieldAndDateResponseDto> data = sheet.isEmpty() ? null : sheet;
         // 4-2. responseBody
         CustomAPIResponse<List<GetScheduleByFieldAndDateResponseDto>> responseBody = CustomAPIResponse.createSuccess(HttpStatus.OK.value(), data, "구장 운영 일정 조회 완료되었습니다.");
         // 4-3. ResponseEntity
@@ -3,15 +3,58 @@ package com.server.scapture.store.repository;
 import com.server.scapture.domain.Store;
 import com.server.scapture.domain.User;
 import com.server.scapture.domain.Video;
+import com.server.scapture.util.concurrent.LookupExecutor;
+import com.server.scapture.video.dto.GetStoredVideoResponseDto;
+import com.server.scapture.video.dto.StoredVideoRowDto;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface StoreRepository extends JpaRepository<Store, Long> {
     Optional<Store> findByVideoAndUser(Video video, User user);
+    // 조회 풀(LookupExecutor)에서 실행하는 조회는 제한 시간과 같은 쿼리 타임아웃을 건다.
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_QUERY_TIMEOUT, value = LookupExecutor.QUERY_TIMEOUT_MILLIS))
+    boolean existsByVideoIdAndUserId(Long videoId, Long userId);
+    // 주어진 영상 중 사용자가 저장한 영상 PK
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_QUERY_TIMEOUT, value = LookupExecutor.QUERY_TIMEOUT_MILLIS))
+    @Query("SELECT st.video.id FROM Store st WHERE st.user.id = :userId AND st.video.id IN :videoIds")
+    List<Long> findStoredVideoIds(Long userId, Collection<Long> videoIds);
 
     List<Store> findByUser(User user);
+    // 저장 영상 전체 - 최신순 (Store + 영상 목록 카드)
+    @Query("SELECT new com.server.scapture.video.dto.GetStoredVideoResponseDto(c.videoId, c.image) " +
+            "FROM Store st JOIN VideoListCard c ON c.videoId = st.video.id " +
+            "WHERE st.user = :user " +
+            "ORDER BY c.endDate DESC, c.videoId DESC")
+    List<GetStoredVideoResponseDto> findAllStoredVideosByLatest(User user);
+    // 저장 영상 전체 - 좋아요순
+    @Query("SELECT new com.server.scapture.video.dto.GetStoredVideoResponseDto(c.videoId, c.image) " +
+            "FROM Store st JOIN VideoListCard c ON c.videoId = st.video.id " +
+            "WHERE st.user = :user " +
+            "ORDER BY c.likeCount DESC, c.videoId DESC")
+    List<GetStoredVideoResponseDto> findAllStoredVideosByLikeCount(User user);
+    // keyset: 정렬 키가 조인한 video_card에 있으므로 인덱스로 정렬하지 못하고,
+    // idx_store_user_video로 사용자의 저장 행만 찾은 뒤 커서 이후 행을 정렬한다. (비용은 사용자의 저장 수에 비례)
+    // keyset: 최신순 (종료 시각 DESC, 영상 PK DESC)
+    @Query("SELECT new com.server.scapture.video.dto.StoredVideoRowDto(c.videoId, c.image, c.endDate, c.likeCount) " +
+            "FROM Store st JOIN VideoListCard c ON c.videoId = st.video.id " +
+            "WHERE st.user = :user AND (c.endDate < :cursorEndDate OR (c.endDate = :cursorEndDate AND c.videoId < :cursorVideoId)) " +
+            "ORDER BY c.endDate DESC, c.videoId DESC")
+    List<StoredVideoRowDto> findStoredVideosByLatest(User user, LocalDateTime cursorEndDate, Long cursorVideoId, Pageable pageable);
+    // keyset: 좋아요순 (좋아요 수 DESC, 영상 PK DESC)
+    @Query("SELECT new com.server.scapture.video.dto.StoredVideoRowDto(c.videoId, c.image, c.endDate, c.likeCount) " +
+            "FROM Store st JOIN VideoListCard c ON c.videoId = st.video.id " +
+            "WHERE st.user = :user AND (c.likeCount < :cursorLikeCount OR (c.likeCount = :cursorLikeCount AND c.videoId < :cursorVideoId)) " +
+            "ORDER BY c.likeCount DESC, c.videoId DESC")
+    List<StoredVideoRowDto> findStoredVideosByLikeCount(User user, int cursorLikeCount, Long cursorVideoId, Pageable pageable);
 }
@@ -2,6 +2,8 @@ package com.server.scapture.user.repository;
 
 import com.server.scapture.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -10,4 +12,8 @@ import java.util.Optional;
 public interface UserRepository extends JpaRepository<User, Long> {
     User findByProviderId(String providerId);
     Optional<User> findByProviderAndProviderId(String provider, String providerId);
+    // 잔액이 있을 때만 차감 -> 1: 차감, 0: 잔액 부족
+    @Modifying
+    @Query("UPDATE User u SET u.banana = u.banana - :amount WHERE u.id = :userId AND u.banana >= :amount")
+    int decreaseBananaIfEnough(Long userId, int amount);
 }
@@ -11,6 +11,7 @@ import com.server.scapture.subscribe.service.SubscribeService;
 import com.server.scapture.user.dto.*;
 import com.server.scapture.user.repository.UserRepository;
 import com.server.scapture.util.S3.S3Service;
+import com.server.scapture.util.S3.UrlAudience;
 import com.server.scapture.util.date.DateUtil;
 import com.server.scapture.util.response.CustomAPIResponse;
 import lombok.RequiredArgsConstructor;
@@ -132,7 +133,7 @@ public class UserServiceImpl implements UserService{
                     .location(user.getLocation())
                     .role(user.getRole())
                     .endDate(null) // 구독 만료일 null
-                    .image(user.getImage())
+                    .image(s3Service.presign(user.getImage(), UrlAudience.MEMBER))
                     .build();
         }
         // 구독중일 시
@@ -144,7 +145,7 @@ public class UserServiceImpl implements UserService{
                     .location(user.getLocation())
                     .role(user.getRole())
                     .endDate(subscribe.convertEndDate()) // 구독 만료일 null
-                    .image(user.getImage())
+                    .image(s3Service.presign(user.getImage(), UrlAudience.MEMBER))
                     .build();
         }
 
@@ -182,7 +183,7 @@ public class UserServiceImpl implements UserService{
                 .name(user.getName())
                 .team(user.getTeam())
                 .location(user.getLocation())
-                .image(user.getImage())
+                .image(s3Service.presign(user.getImage(), UrlAudience.MEMBER))
                 .build();
 
         CustomAPIResponse<?> res = CustomAPIResponse.createSuccess(200, updatedProfileEditDto, "프로필이 성공적으로 업데이트되었습니다.");
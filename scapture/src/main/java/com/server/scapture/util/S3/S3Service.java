@@ -2,11 +2,19 @@ package com.server.scapture.util.S3;
 
 import com.amazonaws.HttpMethod;
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.AmazonS3URI;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
 import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3ObjectInputStream;
 import com.amazonaws.util.IOUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -18,12 +26,17 @@ import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.net.URI;
 import java.net.URL;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Date;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 /* S3Service.java */
 @Slf4j
@@ -36,7 +49,33 @@ public class S3Service {
     private String stadiumImageBucket;
     @Value("${cloud.aws.s3.userImageBucketName}")
     private String userImageBucket;
+    @Value("${cloud.aws.s3.presigned-url.enabled:true}")
+    private boolean presignEnabled;
+    @Value("${cloud.aws.s3.presigned-url.member-expiration:3600}")
+    private long memberExpirationSeconds;
+    @Value("${cloud.aws.s3.presigned-url.anonymous-expiration:600}")
+    private long anonymousExpirationSeconds;
+    @Value("${cloud.aws.s3.presigned-url.reuse-ratio:0.5}")
+    private double reuseRatio;
+    @Value("${cloud.aws.s3.presigned-url.cache-size:10000}")
+    private long presignedUrlCacheSize;
     private final AmazonS3 amazonS3;
+    private final MeterRegistry meterRegistry;
+    // 사용자 구분 -> (객체 URL -> presigned URL), 만료 시간의 reuseRatio만큼만 재사용
+    private final Map<UrlAudience, Cache<String, String>> presignedUrls = new EnumMap<>(UrlAudience.class);
+
+    @PostConstruct
+    void initPresignedUrlCache() {
+        for (UrlAudience audience : UrlAudience.values()) {
+            Cache<String, String> cache = Caffeine.newBuilder()
+                    .maximumSize(presignedUrlCacheSize)
+                    .expireAfterWrite(Duration.ofMillis((long) (expirationMillis(audience) * reuseRatio)))
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, "s3.presigned-url." + audience.name().toLowerCase());
+            presignedUrls.put(audience, cache);
+        }
+    }
 
     public String upload(MultipartFile multipartFile, String dirName, String fileName) throws IOException {
         String name = dirName + "/" + fileName;
@@ -58,4 +97,71 @@ public class S3Service {
         amazonS3.putObject(userImageBucket, name, multipartFile.getInputStream(), metadata);
         return amazonS3.getUrl(userImageBucket, name).toString();
     }
+
+    // 저장된 객체 URL의 메타데이터(크기, Content-Type) 조회
+    public ObjectMetadata getObjectMetadata(String objectUrl) {
+        S3Location location = toS3Location(objectUrl)
+                .orElseThrow(() -> new IllegalArgumentException("S3 객체 URL이 아닙니다: " + objectUrl));
+        return amazonS3.getObjectMetadata(location.bucket(), location.key());
+    }
+
+    // 저장된 객체 URL의 [start, end] 바이트 구간 스트림
+    public S3ObjectInputStream openRange(String objectUrl, long start, long end) {
+        S3Location location = toS3Location(objectUrl)
+                .orElseThrow(() -> new IllegalArgumentException("S3 객체 URL이 아닙니다: " + objectUrl));
+        GetObjectRequest request = new GetObjectRequest(location.bucket(), location.key()).withRange(start, end);
+        return amazonS3.getObject(request).getObjectContent();
+    }
+
+    // 저장된 객체 URL -> 만료 시간이 있는 presigned GET URL
+    // (객체, 사용자 구분)별로 캐시하고 만료 시간의 reuseRatio(기본 절반)까지만 재사용한다.
+    // 따라서 응답으로 받은 URL은 최소 (1 - reuseRatio) * 만료 시간 동안 유효하다.
+    // 우리 버킷의 객체가 아니면(소셜 프로필 이미지 등) 그대로 반환
+    public String presign(String objectUrl, UrlAudience audience) {
+        if (objectUrl == null || !presignEnabled) return objectUrl;
+        // 1. 캐시 조회
+        Cache<String, String> cache = presignedUrls.get(audience);
+        String cached = cache.getIfPresent(objectUrl);
+        if (cached != null) return cached;
+        // 2. 서명
+        Optional<S3Location> location = toS3Location(objectUrl);
+        if (location.isEmpty()) return objectUrl;
+        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(location.get().bucket(), location.get().key())
+                .withMethod(HttpMethod.GET)
+                .withExpiration(new Date(System.currentTimeMillis() + expirationMillis(audience)));
+        String presignedUrl = amazonS3.generatePresignedUrl(request).toString();
+        // 3. 캐시 저장 (가득 차면 크기 기준으로 제거)
+        cache.put(objectUrl, presignedUrl);
+        return presignedUrl;
+    }
+
+    private long expirationMillis(UrlAudience audience) {
+        return (audience == UrlAudience.MEMBER ? memberExpirationSeconds : anonymousExpirationSeconds) * 1000;
+    }
+
+    // DB에는 amazonS3.getUrl()로 만든 전체 URL이 저장되어 있으므로 버킷/키로 분해
+    // virtual-hosted 형식(AWS)과 path-style 형식(S3 호환 로컬 저장소) 모두 지원
+    private Optional<S3Location> toS3Location(String objectUrl) {
+        S3Location location;
+        try {
+            AmazonS3URI uri = new AmazonS3URI(URLDecoder.decode(objectUrl, StandardCharsets.UTF_8));
+            location = new S3Location(uri.getBucket(), uri.getKey());
+        } catch (IllegalArgumentException e) {
+            try {
+                String path = URI.create(objectUrl).getPath();
+                if (path == null || path.length() < 2) return Optional.empty();
+                int slash = path.indexOf('/', 1);
+                if (slash < 0) return Optional.empty();
+                location = new S3Location(path.substring(1, slash), path.substring(slash + 1));
+            } catch (IllegalArgumentException invalidUri) {
+                return Optional.empty();
+            }
+        }
+        if (location.bucket() == null || location.key() == null) return Optional.empty();
+        if (!Set.of(videoBucket, stadiumImageBucket, userImageBucket).contains(location.bucket())) return Optional.empty();
+        return Optional.of(location);
+    }
+
+    private record S3Location(String bucket, String key) {
+    }
 }
@@ -0,0 +1,7 @@
+package com.server.scapture.util.S3;
+
+// presigned URL 발급 대상 구분 (구분별 만료 시간이 다름)
+public enum UrlAudience {
+    ANONYMOUS,  // 비로그인
+    MEMBER      // 로그인 사용자
+}
@@ -0,0 +1,64 @@
+package com.server.scapture.util.concurrent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// 한 요청 안의 서로 독립적인 조회를 동시에 실행하기 위한 고정 크기 스레드 풀
+// 각 조회는 자기 스레드에서 별도 커넥션으로 실행되므로 풀 크기는 커넥션 풀(spring.datasource.hikari.maximum-pool-size)보다 작게 둔다.
+// 요청 스레드가 기다리는 동안 커넥션을 잡고 있지 않도록 OSIV(spring.jpa.open-in-view)는 꺼 둔다.
+// 대기열이 차면 호출 스레드에서 바로 실행해 순차 실행으로 물러난다.
+// 제한 시간이 지나도 future만 실패할 뿐 쿼리는 계속 실행되므로, 조회 풀에서 실행하는 쿼리에는
+// 같은 값의 쿼리 타임아웃(QUERY_TIMEOUT_MILLIS)을 걸어 스레드와 커넥션을 돌려받는다.
+// Executor 빈으로 등록하지 않아 MVC 비동기 처리(applicationTaskExecutor)와 섞이지 않는다.
+@Slf4j
+@Component
+public class LookupExecutor {
+    // 조회 풀에서 실행하는 쿼리의 타임아웃 (ms, @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_QUERY_TIMEOUT, value = ...)))
+    public static final String QUERY_TIMEOUT_MILLIS = "2000";
+
+    private final ExecutorService executor;
+    private final long timeoutMillis;
+
+    public LookupExecutor(MeterRegistry meterRegistry,
+                          @Value("${lookup.executor.pool-size:8}") int poolSize,
+                          @Value("${lookup.executor.queue-capacity:200}") int queueCapacity,
+                          @Value("${lookup.executor.timeout:" + QUERY_TIMEOUT_MILLIS + "}") long timeoutMillis) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "lookup-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        // executor.active, executor.queued, executor.completed 등
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, "lookup");
+        this.timeoutMillis = timeoutMillis;
+        if (timeoutMillis != Long.parseLong(QUERY_TIMEOUT_MILLIS)) {
+            log.warn("lookup.executor.timeout({}ms)이 조회 쿼리 타임아웃({}ms)과 다릅니다.", timeoutMillis, QUERY_TIMEOUT_MILLIS);
+        }
+    }
+
+    // 조회별 제한 시간 초과 시 TimeoutException으로 완료 (실행 중인 쿼리는 쿼리 타임아웃으로 취소됨)
+    public <T> CompletableFuture<T> supply(Supplier<T> lookup) {
+        return CompletableFuture.supplyAsync(lookup, executor).orTimeout(timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,35 @@
+package com.server.scapture.util.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.stream.Collectors;
+
+// Keyset(커서) 페이지네이션 커서 인코딩
+// 커서 = Base64URL("정렬키_PK"), 클라이언트에는 불투명한 문자열로 전달한다.
+public class CursorUtil {
+    private static final String DELIMITER = "_";
+    private static final int DEFAULT_SIZE = 20;
+    private static final int MAX_SIZE = 100;
+
+    public static String encode(Object... keys) {
+        String raw = Arrays.stream(keys)
+                .map(String::valueOf)
+                .collect(Collectors.joining(DELIMITER));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 잘못된 커서면 IllegalArgumentException
+    public static String[] decode(String cursor, int keyCount) {
+        String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        String[] keys = raw.split(DELIMITER, -1);
+        if (keys.length != keyCount) throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        return keys;
+    }
+
+    // 페이지 크기 보정 (1 ~ MAX_SIZE)
+    public static int pageSize(Integer size) {
+        if (size == null || size < 1) return DEFAULT_SIZE;
+        return Math.min(size, MAX_SIZE);
+    }
+}
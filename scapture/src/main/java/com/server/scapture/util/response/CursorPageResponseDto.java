@@ -0,0 +1,17 @@
+package com.server.scapture.util.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter @Setter
+@AllArgsConstructor
+@Builder
+public class CursorPageResponseDto<T> {
+    private List<T> content;
+    private String nextCursor;  // 다음 페이지 커서 (마지막 페이지면 null)
+    private boolean hasNext;
+}
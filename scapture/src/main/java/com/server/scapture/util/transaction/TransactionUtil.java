@@ -0,0 +1,22 @@
+package com.server.scapture.util.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class TransactionUtil {
+
+    // 트랜잭션이 커밋된 뒤에 실행 (트랜잭션이 없으면 즉시 실행)
+    // 메모리 인덱스/캐시 갱신이 롤백된 DB 변경을 반영하지 않도록 사용한다.
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,29 @@
+package com.server.scapture.video.cache;
+
+import com.server.scapture.video.counter.FlushedViews;
+
+// 영상 세부 조회용 불변 정보 (영상 + 경기장 + 경기장 첫 이미지)
+// views는 적재 시점의 DB 조회 수, viewsMark는 적재 시점까지 DB에 반영된 메모리 조회 수 누적값
+public record VideoCard(Long videoId,
+                        String name,
+                        String image,
+                        String video,
+                        int views,
+                        Long stadiumId,
+                        String stadiumName,
+                        String stadiumDescription,
+                        String stadiumLocation,
+                        Boolean stadiumIsOutside,
+                        String stadiumParking,
+                        String stadiumImage,
+                        FlushedViews viewsMark) {
+    // 프로젝션용 생성자 (viewsMark는 적재 후 설정)
+    public VideoCard(Long videoId, String name, String image, String video, int views, Long stadiumId, String stadiumName,
+                     String stadiumDescription, String stadiumLocation, Boolean stadiumIsOutside, String stadiumParking, String stadiumImage) {
+        this(videoId, name, image, video, views, stadiumId, stadiumName, stadiumDescription, stadiumLocation, stadiumIsOutside, stadiumParking, stadiumImage, FlushedViews.NONE);
+    }
+
+    public VideoCard withViewsMark(FlushedViews viewsMark) {
+        return new VideoCard(videoId, name, image, video, views, stadiumId, stadiumName, stadiumDescription, stadiumLocation, stadiumIsOutside, stadiumParking, stadiumImage, viewsMark);
+    }
+}
@@ -0,0 +1,83 @@
+package com.server.scapture.video.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.server.scapture.video.counter.FlushedViews;
+import com.server.scapture.video.counter.VideoViewCounter;
+import com.server.scapture.video.repository.VideoRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+// 영상 세부 조회용 near cache (Caffeine)
+// 영상/경기장 정보는 생성 후 바뀌지 않으므로 한 번 조립한 VideoCard를 재사용하고,
+// 좋아요/조회 수는 조회 시 카운터(VideoLeaderboard, VideoViewCounter) 값으로 덮어쓴다.
+// 최대 개수 초과 시 크기 기준으로 제거되며, 다른 인스턴스의 조회 수 반영을 위해 일정 시간 후 만료된다.
+@Slf4j
+@Component
+public class VideoCardCache {
+    private final VideoRepository videoRepository;
+    private final VideoViewCounter videoViewCounter;
+    private final Cache<Long, VideoCard> cards;
+
+    public VideoCardCache(VideoRepository videoRepository,
+                          VideoViewCounter videoViewCounter,
+                          MeterRegistry meterRegistry,
+                          @Value("${video.card-cache.maximum-size:10000}") long maximumSize,
+                          @Value("${video.card-cache.expire-after-write:600}") long expireAfterWriteSeconds) {
+        this.videoRepository = videoRepository;
+        this.videoViewCounter = videoViewCounter;
+        this.cards = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                .recordStats()
+                .build();
+        // cache.gets{result=hit|miss}, cache.evictions, cache.size 등
+        CaffeineCacheMetrics.monitor(meterRegistry, cards, "video.card");
+    }
+
+    // 캐시 조회, 없으면 단일 쿼리로 조립
+    public Optional<VideoCard> get(Long videoId) {
+        VideoCard card = cards.getIfPresent(videoId);
+        if (card != null) return Optional.of(card);
+        // 조회 전후로 반영 기준값을 읽어, 조회 후 값을 카드의 기준으로 삼는다 (조회 결과에 포함된 반영분까지가 기준)
+        FlushedViews markBefore = videoViewCounter.getFlushedViews(videoId);
+        Optional<VideoCard> found = videoRepository.findVideoCardById(videoId);
+        FlushedViews viewsMark = videoViewCounter.getFlushedViews(videoId);
+        Optional<VideoCard> loaded = found.map(foundCard -> foundCard.withViewsMark(viewsMark));
+        // 조회 도중 반영이 있었다면 DB 값에 포함됐는지 알 수 없으므로 캐시하지 않음 (다음 조회에서 다시 적재)
+        if (viewsMark.equals(markBefore)) loaded.ifPresent(loadedCard -> cards.put(videoId, loadedCard));
+        return loaded;
+    }
+
+    // 캐시에 있는 카드만 조회 (DB 조회 없음)
+    public Optional<VideoCard> getIfPresent(Long videoId) {
+        return Optional.ofNullable(cards.getIfPresent(videoId));
+    }
+
+    // 현재 조회 수 = 적재 시점 DB 값 + 이후 DB 반영분 + 아직 반영되지 않은 값
+    public long currentViews(VideoCard card) {
+        return card.views()
+                + videoViewCounter.getFlushedViews(card.videoId()).since(card.viewsMark())
+                + videoViewCounter.getPendingViews(card.videoId());
+    }
+
+    public void evictVideo(Long videoId) {
+        cards.invalidate(videoId);
+    }
+
+    // 경기장 정보/이미지 변경 시
+    public void evictStadium(Long stadiumId) {
+        cards.asMap().values().removeIf(card -> stadiumId.equals(card.stadiumId()));
+    }
+
+    public void evictAll() {
+        cards.invalidateAll();
+        log.info("영상 카드 캐시 초기화");
+    }
+}
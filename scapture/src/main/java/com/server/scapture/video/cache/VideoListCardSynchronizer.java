@@ -0,0 +1,95 @@
+package com.server.scapture.video.cache;
+
+import com.server.scapture.video.repository.VideoListCardRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 영상 목록 카드(video_card) 유지
+// 영상 등록 시 해당 운영 일정의 카드를 채우고, 경기장 변경 시 경기장 정보를 다시 반영한다.
+// 좋아요/조회 수는 video에 반영한 쪽이 영상 PK를 알려 주면, 주기적으로 그 영상의 카드만 video 값으로 복사한다.
+// (실시간 값은 VideoLeaderboard, VideoViewCounter, 누락분은 드문 전체 대조로 보정)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VideoListCardSynchronizer {
+    // IN 조회 한 번에 담을 운영 일정 수
+    private static final int CHUNK_SIZE = 1000;
+
+    private final VideoListCardRepository videoListCardRepository;
+    // 좋아요/조회 수가 video에 반영되었지만 카드에는 아직 복사되지 않은 영상 PK
+    private final Set<Long> dirtyVideoIds = ConcurrentHashMap.newKeySet();
+
+    // 기존 영상 백필 (카드가 없는 영상만)
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        int inserted = videoListCardRepository.insertMissing();
+        log.info("영상 목록 카드 백필 완료: {}개", inserted);
+    }
+
+    // 영상 등록 후
+    public void addSchedules(Collection<Long> scheduleIds) {
+        if (scheduleIds.isEmpty()) return;
+        List<Long> idList = new ArrayList<>(scheduleIds);
+        for (int from = 0; from < idList.size(); from += CHUNK_SIZE) {
+            videoListCardRepository.insertMissingByScheduleIds(idList.subList(from, Math.min(from + CHUNK_SIZE, idList.size())));
+        }
+    }
+
+    // 경기장 이름/이미지 변경 후
+    public void refreshStadium(Long stadiumId) {
+        videoListCardRepository.refreshStadium(stadiumId);
+    }
+
+    // video의 좋아요/조회 수 반영(커밋) 후
+    public void markDirty(Long videoId) {
+        dirtyVideoIds.add(videoId);
+    }
+
+    public void markDirty(Collection<Long> videoIds) {
+        dirtyVideoIds.addAll(videoIds);
+    }
+
+    // 바뀐 영상의 카드만 동기화
+    @Scheduled(fixedDelayString = "${video.list-card.sync-interval:30000}")
+    public synchronized void syncCounters() {
+        if (dirtyVideoIds.isEmpty()) return;
+        // 1. 바뀐 영상 PK 수집 (꺼낸 뒤 다시 바뀐 영상은 다음 주기에 반영)
+        List<Long> idList = new ArrayList<>();
+        for (Iterator<Long> iterator = dirtyVideoIds.iterator(); iterator.hasNext(); ) {
+            idList.add(iterator.next());
+            iterator.remove();
+        }
+        // 2. 묶음 단위 갱신
+        int updated = 0;
+        for (int from = 0; from < idList.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = idList.subList(from, Math.min(from + CHUNK_SIZE, idList.size()));
+            try {
+                updated += videoListCardRepository.syncCountersByVideoIds(chunk);
+            } catch (RuntimeException e) {
+                // 2-1. 실패 시 남은 영상은 다음 주기에 다시 반영
+                log.warn("영상 목록 카드 동기화 실패, 다음 주기에 재시도합니다. 영상 수: {}", idList.size() - from, e);
+                dirtyVideoIds.addAll(idList.subList(from, idList.size()));
+                return;
+            }
+        }
+        log.debug("영상 목록 카드 좋아요/조회 수 동기화: {}개", updated);
+    }
+
+    // 전체 대조 (알림 누락, 수동 변경 보정)
+    @Scheduled(initialDelayString = "${video.list-card.reconcile-interval:3600000}", fixedDelayString = "${video.list-card.reconcile-interval:3600000}")
+    public synchronized void reconcileCounters() {
+        int updated = videoListCardRepository.syncCounters();
+        log.info("영상 목록 카드 전체 대조: {}개 갱신", updated);
+    }
+}
@@ -2,10 +2,13 @@ package com.server.scapture.video.controller;
 
 import com.server.scapture.oauth.jwt.JwtUtil;
 import com.server.scapture.util.response.CustomAPIResponse;
+import com.server.scapture.video.dto.GetVideoFlagsRequestDto;
 import com.server.scapture.video.dto.VideoCreateRequestDto;
 import com.server.scapture.video.service.VideoService;
 import lombok.RequiredArgsConstructor;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.parameters.P;
 import org.springframework.web.bind.annotation.*;
@@ -25,9 +28,15 @@ public class VideoController {
         return videoService.createVideo(videoCreateRequestDto);
     }
 
+    // 영상 대량 등록 (NDJSON 스트림)
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<CustomAPIResponse<?>> createVideosInBulk(HttpServletRequest request) throws IOException {
+        return videoService.createVideosInBulk(request.getInputStream());
+    }
+
     @GetMapping("/{scheduleId}")
-    public ResponseEntity<CustomAPIResponse<?>> getVideos(@PathVariable("scheduleId") Long scheduleId) {
-        return videoService.getVideos(scheduleId);
+    public ResponseEntity<CustomAPIResponse<?>> getVideos(@PathVariable("scheduleId") Long scheduleId, @RequestParam(value = "cursor", required = false) String cursor, @RequestParam(value = "size", required = false) Integer size) {
+        return videoService.getVideos(scheduleId, cursor, size);
     }
 
     @GetMapping("/popular")
@@ -35,14 +44,34 @@ public class VideoController {
         return videoService.getVideosByLikeCount();
     }
 
+    // 급상승 영상 (시간 감쇠 점수)
+    @GetMapping("/trending")
+    public ResponseEntity<CustomAPIResponse<?>> getTrendingVideos(@RequestParam(value = "size", required = false) Integer size) {
+        return videoService.getTrendingVideos(size);
+    }
+
+    // 최근 구간 차트 (window: hour, day, week / metric: views, likes)
+    @GetMapping("/charts")
+    public ResponseEntity<CustomAPIResponse<?>> getVideoCharts(@RequestParam(value = "window", defaultValue = "day") String window, @RequestParam(value = "metric", defaultValue = "views") String metric, @RequestParam(value = "stadiumId", required = false) Long stadiumId) {
+        return videoService.getVideoCharts(window, metric, stadiumId);
+    }
+
     @GetMapping("/store")
-    public ResponseEntity<CustomAPIResponse<?>> getStoredVideo(@RequestHeader(HttpHeaders.AUTHORIZATION) String header, @RequestParam("sort") String sort) {
-        return videoService.getStoredVideo(header, sort);
+    public ResponseEntity<CustomAPIResponse<?>> getStoredVideo(@RequestHeader(HttpHeaders.AUTHORIZATION) String header, @RequestParam("sort") String sort, @RequestParam(value = "cursor", required = false) String cursor, @RequestParam(value = "size", required = false) Integer size) {
+        return videoService.getStoredVideo(header, sort, cursor, size);
     }
 
     @GetMapping("/{videoId}/details")
-    public ResponseEntity<CustomAPIResponse<?>> getVideoDetail(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String header, @PathVariable("videoId") Long videoId) {
-        return videoService.getVideoDetail(header, videoId);
+    public ResponseEntity<CustomAPIResponse<?>> getVideoDetail(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String header, @PathVariable("videoId") Long videoId, HttpServletRequest request) {
+        // 비회원 순 시청자 구분용 (클라이언트가 바꿀 수 있는 X-Forwarded-For는 직접 읽지 않음)
+        // 프록시 뒤에서는 신뢰하는 프록시가 보낸 경우에만 Tomcat이 원래 주소로 바꿔 준다. (server.forward-headers-strategy)
+        return videoService.getVideoDetail(header, videoId, request.getRemoteAddr() + "|" + request.getHeader(HttpHeaders.USER_AGENT));
+    }
+
+    // 여러 영상의 좋아요/저장/다운로드 여부 (최대 200개)
+    @PostMapping("/flags")
+    public ResponseEntity<CustomAPIResponse<?>> getVideoFlags(@RequestHeader(HttpHeaders.AUTHORIZATION) String header, @RequestBody GetVideoFlagsRequestDto getVideoFlagsRequestDto) {
+        return videoService.getVideoFlags(header, getVideoFlagsRequestDto);
     }
 
     @PostMapping("/{videoId}/likes")
@@ -74,4 +103,10 @@ public class VideoController {
         return videoService.getDownload(header, videoId);
     }
 
+    // 영상 스트리밍 (다운로드 권한 필요, Range 요청 지원)
+    @GetMapping("/{videoId}/stream")
+    public ResponseEntity<?> streamVideo(@RequestHeader(HttpHeaders.AUTHORIZATION) String header, @PathVariable("videoId") Long videoId, @RequestHeader(value = HttpHeaders.RANGE, required = false) String range) {
+        return videoService.streamVideo(header, videoId, range);
+    }
+
 }
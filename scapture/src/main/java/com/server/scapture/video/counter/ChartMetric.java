@@ -0,0 +1,7 @@
+package com.server.scapture.video.counter;
+
+// 차트 집계 기준
+public enum ChartMetric {
+    VIEWS,
+    LIKES
+}
@@ -0,0 +1,8 @@
+package com.server.scapture.video.counter;
+
+// 차트 집계 구간
+public enum ChartWindow {
+    HOUR,   // 최근 1시간 (분 단위 버킷)
+    DAY,    // 최근 24시간 (시간 단위 버킷)
+    WEEK    // 최근 7일 (시간 단위 버킷)
+}
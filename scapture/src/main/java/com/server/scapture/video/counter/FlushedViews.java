@@ -0,0 +1,13 @@
+package com.server.scapture.video.counter;
+
+// 이 인스턴스가 DB에 반영한 영상 조회 수 누적값
+// generation은 누적값이 정리 후 다시 시작되었는지 구분하기 위한 값 (0은 반영 기록 없음)
+public record FlushedViews(long generation, long total, long flushedAt) {
+    public static final FlushedViews NONE = new FlushedViews(0, 0, 0);
+
+    // mark 이후 DB에 반영된 조회 수
+    public long since(FlushedViews mark) {
+        // 같은 누적값이면 차이, 정리 후 다시 시작된 누적값이면 전체가 mark 이후 반영분
+        return generation == mark.generation ? total - mark.total : total;
+    }
+}
@@ -0,0 +1,78 @@
+package com.server.scapture.video.counter;
+
+import java.nio.charset.StandardCharsets;
+
+// 순 방문자 수 추정용 HyperLogLog 스케치
+// 레지스터 2^PRECISION개(1바이트씩)로 고정 크기이며, 표준 오차는 약 1.04 / sqrt(2^PRECISION) (≈ 1.6%)이다.
+// 동기화하지 않으므로 사용하는 쪽에서 보호해야 한다.
+public class HyperLogLog {
+    public static final int PRECISION = 12;
+    public static final int SIZE = 1 << PRECISION;
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / SIZE);
+
+    private final byte[] registers;
+
+    public HyperLogLog() {
+        this.registers = new byte[SIZE];
+    }
+
+    private HyperLogLog(byte[] registers) {
+        this.registers = registers;
+    }
+
+    // 저장된 스케치 복원 (크기가 다르면 빈 스케치)
+    public static HyperLogLog fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length != SIZE) return new HyperLogLog();
+        return new HyperLogLog(bytes.clone());
+    }
+
+    public byte[] toBytes() {
+        return registers.clone();
+    }
+
+    // 원소 추가, 레지스터가 바뀌었으면 true
+    public boolean add(String value) {
+        long hash = hash(value);
+        int index = (int) (hash >>> (64 - PRECISION));
+        // 나머지 비트의 선행 0 개수 + 1 (나머지가 모두 0이면 최대값)
+        long rest = hash << PRECISION;
+        byte rank = (byte) (rest == 0 ? 64 - PRECISION + 1 : Long.numberOfLeadingZeros(rest) + 1);
+        if (registers[index] >= rank) return false;
+        registers[index] = rank;
+        return true;
+    }
+
+    public void merge(HyperLogLog other) {
+        for (int i = 0; i < SIZE; i++) {
+            if (other.registers[i] > registers[i]) registers[i] = other.registers[i];
+        }
+    }
+
+    public long estimate() {
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) zeros++;
+        }
+        double estimate = ALPHA * SIZE * SIZE / sum;
+        // 작은 범위는 linear counting으로 보정
+        if (estimate <= 2.5 * SIZE && zeros > 0) estimate = SIZE * Math.log((double) SIZE / zeros);
+        return Math.round(estimate);
+    }
+
+    // FNV-1a 64 + MurmurHash3 fmix64 (비트 분산 보강)
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,74 @@
+package com.server.scapture.video.counter;
+
+import com.server.scapture.video.cache.VideoListCardSynchronizer;
+import com.server.scapture.video.repository.VideoLikeShardRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 영상 좋아요 분산 카운터
+// 증감마다 video 행 대신 video_like_shard의 임의 행(영상당 N개)에 기록해 인기 영상의 행 잠금 경합을 나눈다.
+// 주기적으로 shard 합계를 video.like_count에 더하고 더한 만큼 shard에서 뺀다. (실시간 값은 VideoLeaderboard)
+// 합산 대상 행은 잠금 조회하므로 여러 인스턴스가 동시에 합산해도 증감분은 한 번만 반영된다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "video.likes.sharded", havingValue = "true")
+public class ShardedVideoLikeCounter implements VideoLikeCounter {
+    private final VideoLikeShardRepository videoLikeShardRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final VideoListCardSynchronizer videoListCardSynchronizer;
+    @Value("${video.likes.shard-count:16}")
+    private int shardCount;
+
+    @Override
+    public void increase(Long videoId) {
+        videoLikeShardRepository.add(videoId, ThreadLocalRandom.current().nextInt(shardCount), 1);
+    }
+
+    @Override
+    public void decrease(Long videoId) {
+        videoLikeShardRepository.add(videoId, ThreadLocalRandom.current().nextInt(shardCount), -1);
+    }
+
+    // shard 합계를 video.like_count에 반영
+    @Scheduled(fixedDelayString = "${video.likes.rollup-interval:5000}")
+    public synchronized void rollup() {
+        List<Long> applied = transactionTemplate.execute(status -> {
+            // 1. 미반영 증감분 잠금 조회 (다른 인스턴스의 합산과 직렬화)
+            List<VideoLikeShardRow> rows = videoLikeShardRepository.findPending();
+            if (rows.isEmpty()) return List.<Long>of();
+            // 2. 영상별 합계
+            Map<Long, Long> totals = new HashMap<>();
+            for (VideoLikeShardRow row : rows) totals.merge(row.videoId(), row.count(), Long::sum);
+            List<Object[]> deltas = new ArrayList<>();
+            totals.forEach((videoId, total) -> {
+                if (total != 0) deltas.add(new Object[]{total, videoId});
+            });
+            // 3. video 반영 후 shard에서 차감 (같은 트랜잭션)
+            if (!deltas.isEmpty()) videoLikeShardRepository.applyToVideos(deltas);
+            videoLikeShardRepository.subtractAll(rows);
+            log.debug("좋아요 분산 카운터 합산: 영상 {}개", deltas.size());
+            return deltas.stream().map(delta -> (Long) delta[1]).toList();
+        });
+        // 4. 커밋 후 목록 카드 동기화 대상 등록
+        if (applied != null) videoListCardSynchronizer.markDirty(applied);
+    }
+
+    // 종료 시 남은 증감분 반영
+    @PreDestroy
+    public void drain() {
+        rollup();
+    }
+}
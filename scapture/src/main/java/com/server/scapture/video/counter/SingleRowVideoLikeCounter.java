@@ -0,0 +1,29 @@
+package com.server.scapture.video.counter;
+
+import com.server.scapture.util.transaction.TransactionUtil;
+import com.server.scapture.video.cache.VideoListCardSynchronizer;
+import com.server.scapture.video.repository.VideoRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// video.like_count를 바로 증감 (호출한 트랜잭션에 참여)
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "video.likes.sharded", havingValue = "false", matchIfMissing = true)
+public class SingleRowVideoLikeCounter implements VideoLikeCounter {
+    private final VideoRepository videoRepository;
+    private final VideoListCardSynchronizer videoListCardSynchronizer;
+
+    @Override
+    public void increase(Long videoId) {
+        videoRepository.increaseLikeCount(videoId);
+        TransactionUtil.afterCommit(() -> videoListCardSynchronizer.markDirty(videoId));
+    }
+
+    @Override
+    public void decrease(Long videoId) {
+        videoRepository.decreaseLikeCount(videoId);
+        TransactionUtil.afterCommit(() -> videoListCardSynchronizer.markDirty(videoId));
+    }
+}
@@ -0,0 +1,100 @@
+package com.server.scapture.video.counter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 영상 하나의 분/시간 단위 링 버퍼
+// 슬롯마다 어느 분(시간)의 값인지 stamp를 두고, 다른 시각의 값이 들어오면 슬롯을 비우고 재사용한다.
+// 시간 버킷은 체크포인트된 값을 따로 두어 DB에는 차이만 더한다.
+class SlidingWindow {
+    static final int MINUTES = 60;
+    static final int HOURS = 168;
+    private static final int METRICS = ChartMetric.values().length;
+
+    private final long[][] minuteCounts = new long[METRICS][MINUTES];
+    private final long[] minuteStamps = new long[MINUTES];
+    private final long[][] hourCounts = new long[METRICS][HOURS];
+    private final long[][] hourCheckpointed = new long[METRICS][HOURS];
+    private final long[] hourStamps = new long[HOURS];
+    private long lastHour;
+
+    synchronized void add(ChartMetric metric, long delta, long epochMinute) {
+        int minuteSlot = (int) (epochMinute % MINUTES);
+        if (minuteStamps[minuteSlot] != epochMinute) {
+            for (long[] counts : minuteCounts) counts[minuteSlot] = 0;
+            minuteStamps[minuteSlot] = epochMinute;
+        }
+        minuteCounts[metric.ordinal()][minuteSlot] += delta;
+        long epochHour = epochMinute / 60;
+        hourSlot(epochHour);
+        hourCounts[metric.ordinal()][(int) (epochHour % HOURS)] += delta;
+        lastHour = Math.max(lastHour, epochHour);
+    }
+
+    // 최근 60분 합계
+    synchronized long sumMinutes(ChartMetric metric, long currentMinute) {
+        long sum = 0;
+        for (int slot = 0; slot < MINUTES; slot++) {
+            if (minuteStamps[slot] > currentMinute - MINUTES) sum += minuteCounts[metric.ordinal()][slot];
+        }
+        return sum;
+    }
+
+    // 최근 hours시간 합계 (현재 시간 포함)
+    synchronized long sumHours(ChartMetric metric, int hours, long currentHour) {
+        long sum = 0;
+        for (int slot = 0; slot < HOURS; slot++) {
+            if (hourStamps[slot] > currentHour - hours) sum += hourCounts[metric.ordinal()][slot];
+        }
+        return sum;
+    }
+
+    // 체크포인트 이후 바뀐 시간 버킷 (bucketHour, views 차이, likes 차이)
+    synchronized List<long[]> drainDirty() {
+        List<long[]> dirty = new ArrayList<>();
+        for (int slot = 0; slot < HOURS; slot++) {
+            long views = hourCounts[ChartMetric.VIEWS.ordinal()][slot] - hourCheckpointed[ChartMetric.VIEWS.ordinal()][slot];
+            long likes = hourCounts[ChartMetric.LIKES.ordinal()][slot] - hourCheckpointed[ChartMetric.LIKES.ordinal()][slot];
+            if (views == 0 && likes == 0) continue;
+            dirty.add(new long[]{hourStamps[slot], views, likes});
+            hourCheckpointed[ChartMetric.VIEWS.ordinal()][slot] = hourCounts[ChartMetric.VIEWS.ordinal()][slot];
+            hourCheckpointed[ChartMetric.LIKES.ordinal()][slot] = hourCounts[ChartMetric.LIKES.ordinal()][slot];
+        }
+        return dirty;
+    }
+
+    // 체크포인트 실패 시 차이를 되돌려 다음 체크포인트에서 다시 반영
+    synchronized void undoCheckpoint(long epochHour, long views, long likes) {
+        int slot = (int) (epochHour % HOURS);
+        if (hourStamps[slot] != epochHour) return;
+        hourCheckpointed[ChartMetric.VIEWS.ordinal()][slot] -= views;
+        hourCheckpointed[ChartMetric.LIKES.ordinal()][slot] -= likes;
+    }
+
+    // DB 체크포인트에서 복원 (이미 반영된 값)
+    synchronized void restore(long epochHour, long views, long likes) {
+        int slot = hourSlot(epochHour);
+        hourCounts[ChartMetric.VIEWS.ordinal()][slot] += views;
+        hourCounts[ChartMetric.LIKES.ordinal()][slot] += likes;
+        hourCheckpointed[ChartMetric.VIEWS.ordinal()][slot] += views;
+        hourCheckpointed[ChartMetric.LIKES.ordinal()][slot] += likes;
+        lastHour = Math.max(lastHour, epochHour);
+    }
+
+    // 7일 동안 변화가 없으면 제거 대상
+    synchronized boolean isExpired(long currentHour) {
+        return lastHour <= currentHour - HOURS;
+    }
+
+    private int hourSlot(long epochHour) {
+        int slot = (int) (epochHour % HOURS);
+        if (hourStamps[slot] != epochHour) {
+            for (int metric = 0; metric < METRICS; metric++) {
+                hourCounts[metric][slot] = 0;
+                hourCheckpointed[metric][slot] = 0;
+            }
+            hourStamps[slot] = epochHour;
+        }
+        return slot;
+    }
+}
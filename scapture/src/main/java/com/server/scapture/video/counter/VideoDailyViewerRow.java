@@ -0,0 +1,7 @@
+package com.server.scapture.video.counter;
+
+import java.time.LocalDate;
+
+// video_daily_viewer 한 행
+public record VideoDailyViewerRow(Long videoId, LocalDate viewDate, byte[] sketch, long countedViews) {
+}
@@ -0,0 +1,5 @@
+package com.server.scapture.video.counter;
+
+// video_hourly_stat 한 행
+public record VideoHourlyStatRow(Long videoId, long bucketHour, long views, long likes) {
+}
@@ -0,0 +1,8 @@
+package com.server.scapture.video.counter;
+
+// 영상 좋아요 수 DB 반영 방식
+// 기본은 video 행 단일 UPDATE, video.likes.sharded=true이면 분산 카운터 행에 기록 후 주기적으로 합산
+public interface VideoLikeCounter {
+    void increase(Long videoId);
+    void decrease(Long videoId);
+}
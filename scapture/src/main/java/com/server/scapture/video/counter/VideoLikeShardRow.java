@@ -0,0 +1,5 @@
+package com.server.scapture.video.counter;
+
+// video_like_shard 한 행 (미반영 증감분)
+public record VideoLikeShardRow(Long videoId, int shard, long count) {
+}
@@ -0,0 +1,5 @@
+package com.server.scapture.video.counter;
+
+// 영상 PK + 경기장 PK (차트 경기장별 필터용)
+public record VideoStadiumId(Long videoId, Long stadiumId) {
+}
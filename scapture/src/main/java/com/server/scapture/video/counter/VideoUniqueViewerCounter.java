@@ -0,0 +1,176 @@
+package com.server.scapture.video.counter;
+
+import com.server.scapture.video.repository.VideoDailyViewerRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 영상 일별 순 시청자 수 (HyperLogLog)
+// 시청자 키(회원 PK 또는 비회원 IP + User-Agent)를 영상/일자별 스케치에 넣고, 추정값이 늘어난 만큼만 조회 수로 인정한다.
+// 같은 시청자의 새로고침은 스케치를 바꾸지 않으므로 조회 수가 늘지 않는다.
+// 스케치는 영상/일자마다 고정 크기(4KB)이며 주기적으로 video_daily_viewer에 저장한다.
+// 저장 시 다른 인스턴스가 저장한 스케치와 레지스터별 최대값으로 합치므로, 저장된 스케치는 전체 인스턴스의 순 시청자를 담는다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VideoUniqueViewerCounter {
+    // 기존 스케치 잠금 조회 한 번에 담을 영상 수
+    private static final int MERGE_CHUNK_SIZE = 500;
+
+    private final VideoDailyViewerRepository videoDailyViewerRepository;
+    private final TransactionTemplate transactionTemplate;
+    // (영상 PK, 일자) -> 스케치
+    private final ConcurrentHashMap<SketchKey, DailySketch> sketches = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        // 오늘 스케치 복원
+        List<VideoDailyViewerRow> rows = videoDailyViewerRepository.findByViewDate(LocalDate.now());
+        for (VideoDailyViewerRow row : rows) {
+            DailySketch restored = new DailySketch(HyperLogLog.fromBytes(row.sketch()), row.countedViews());
+            sketches.merge(new SketchKey(row.videoId(), row.viewDate()), restored, DailySketch::mergeFrom);
+        }
+        log.info("순 시청자 스케치 복원 완료: {}개", rows.size());
+    }
+
+    // 시청 기록 -> 조회 수로 인정할 값 (새 시청자로 추정되면 1 이상, 아니면 0)
+    public long offer(Long videoId, String viewerKey) {
+        return sketches.computeIfAbsent(new SketchKey(videoId, LocalDate.now()), key -> new DailySketch(new HyperLogLog(), 0))
+                .offer(viewerKey);
+    }
+
+    // 오늘 순 시청자 수 (추정)
+    public long getUniqueViewers(Long videoId) {
+        DailySketch sketch = sketches.get(new SketchKey(videoId, LocalDate.now()));
+        return sketch == null ? 0 : sketch.estimate();
+    }
+
+    // 바뀐 스케치 저장, 지난 일자는 저장 후 메모리에서 제거
+    @Scheduled(fixedDelayString = "${video.viewers.checkpoint-interval:60000}")
+    public synchronized void checkpoint() {
+        LocalDate today = LocalDate.now();
+        // 1. 바뀐 스케치 수집
+        List<VideoDailyViewerRow> rows = new ArrayList<>();
+        List<DailySketch> drained = new ArrayList<>();
+        for (Map.Entry<SketchKey, DailySketch> entry : sketches.entrySet()) {
+            VideoDailyViewerRow row = entry.getValue().drain(entry.getKey());
+            if (row == null) continue;
+            rows.add(row);
+            drained.add(entry.getValue());
+        }
+        // 2. 기존 스케치와 합쳐 저장 (한 트랜잭션)
+        try {
+            transactionTemplate.executeWithoutResult(status -> mergeAndSave(rows));
+        } catch (RuntimeException e) {
+            // 2-1. 실패 시 다음 주기에 다시 저장
+            log.warn("순 시청자 스케치 저장 실패, 다음 주기에 재시도합니다. 스케치 수: {}", rows.size(), e);
+            drained.forEach(DailySketch::markDirty);
+            return;
+        }
+        // 3. 지난 일자 제거 (저장 후 바뀐 것은 다음 주기에 저장)
+        sketches.entrySet().removeIf(entry -> entry.getKey().viewDate().isBefore(today) && !entry.getValue().isDirty());
+    }
+
+    // 잠금 조회한 기존 스케치와 레지스터별 최대값으로 합친 뒤 저장
+    private void mergeAndSave(List<VideoDailyViewerRow> rows) {
+        // 1. 일자별 분류
+        Map<LocalDate, List<VideoDailyViewerRow>> rowsByDate = new HashMap<>();
+        for (VideoDailyViewerRow row : rows) rowsByDate.computeIfAbsent(row.viewDate(), date -> new ArrayList<>()).add(row);
+        List<VideoDailyViewerRow> merged = new ArrayList<>(rows.size());
+        for (Map.Entry<LocalDate, List<VideoDailyViewerRow>> entry : rowsByDate.entrySet()) {
+            List<VideoDailyViewerRow> dateRows = entry.getValue();
+            for (int from = 0; from < dateRows.size(); from += MERGE_CHUNK_SIZE) {
+                List<VideoDailyViewerRow> chunk = dateRows.subList(from, Math.min(from + MERGE_CHUNK_SIZE, dateRows.size()));
+                // 2. 기존 스케치 잠금 조회
+                Map<Long, VideoDailyViewerRow> stored = new HashMap<>();
+                List<Long> videoIds = chunk.stream().map(VideoDailyViewerRow::videoId).toList();
+                for (VideoDailyViewerRow row : videoDailyViewerRepository.findForUpdate(entry.getKey(), videoIds)) {
+                    stored.put(row.videoId(), row);
+                }
+                // 3. 합치기
+                for (VideoDailyViewerRow row : chunk) {
+                    VideoDailyViewerRow existing = stored.get(row.videoId());
+                    if (existing == null) {
+                        merged.add(row);
+                        continue;
+                    }
+                    HyperLogLog sketch = HyperLogLog.fromBytes(row.sketch());
+                    sketch.merge(HyperLogLog.fromBytes(existing.sketch()));
+                    merged.add(new VideoDailyViewerRow(row.videoId(), row.viewDate(), sketch.toBytes(), Math.max(row.countedViews(), existing.countedViews())));
+                }
+            }
+        }
+        // 4. 저장
+        videoDailyViewerRepository.saveAll(merged);
+    }
+
+    // 종료 시 남은 스케치 저장
+    @PreDestroy
+    public void drain() {
+        checkpoint();
+    }
+
+    private static final class DailySketch {
+        private final HyperLogLog sketch;
+        // 이미 조회 수로 인정한 순 시청자 수
+        private long countedViews;
+        private boolean dirty;
+
+        private DailySketch(HyperLogLog sketch, long countedViews) {
+            this.sketch = sketch;
+            this.countedViews = countedViews;
+        }
+
+        synchronized long offer(String viewerKey) {
+            if (!sketch.add(viewerKey)) return 0;
+            dirty = true;
+            // 추정값은 흔들릴 수 있으므로 최대값 기준으로만 인정 (일자별 합계 = 그날 순 시청자 추정값)
+            long estimate = sketch.estimate();
+            if (estimate <= countedViews) return 0;
+            long delta = estimate - countedViews;
+            countedViews = estimate;
+            return delta;
+        }
+
+        synchronized long estimate() {
+            return sketch.estimate();
+        }
+
+        synchronized VideoDailyViewerRow drain(SketchKey key) {
+            if (!dirty) return null;
+            dirty = false;
+            return new VideoDailyViewerRow(key.videoId(), key.viewDate(), sketch.toBytes(), countedViews);
+        }
+
+        synchronized void markDirty() {
+            dirty = true;
+        }
+
+        synchronized boolean isDirty() {
+            return dirty;
+        }
+
+        // 복원 전에 들어온 시청 기록과 합침
+        synchronized DailySketch mergeFrom(DailySketch restored) {
+            sketch.merge(restored.sketch);
+            countedViews = Math.max(countedViews, restored.countedViews);
+            dirty = true;
+            return this;
+        }
+    }
+
+    private record SketchKey(Long videoId, LocalDate viewDate) {
+    }
+}
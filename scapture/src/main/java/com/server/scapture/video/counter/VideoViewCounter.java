@@ -0,0 +1,161 @@
+package com.server.scapture.video.counter;
+
+import com.server.scapture.video.cache.VideoListCardSynchronizer;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// 영상 조회 수 write-behind 카운터
+// 조회마다 DB에 쓰지 않고 메모리에 누적한 뒤, 주기적으로 UPDATE video SET views = views + ? 배치로 반영한다.
+// 반영이 끝난 영상의 누산기는 정리하고, 반영 누적값은 영상 카드 캐시 만료 시간보다 오래 반영이 없으면 정리한다.
+@Slf4j
+@Component
+public class VideoViewCounter {
+    private static final String FLUSH_SQL = "UPDATE video SET views = views + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final VideoListCardSynchronizer videoListCardSynchronizer;
+    // 영상 PK -> 아직 반영되지 않은 조회 수 (LongAdder 내부 셀로 스트라이핑)
+    private final ConcurrentHashMap<Long, LongAdder> pendingViews = new ConcurrentHashMap<>();
+    // 영상 PK -> 이 인스턴스가 DB에 반영한 조회 수 누적값 (캐시된 DB 조회 수 보정용)
+    private final ConcurrentHashMap<Long, FlushedViews> flushedViews = new ConcurrentHashMap<>();
+    // 반영 누적값 세대 번호
+    private final AtomicLong generations = new AtomicLong();
+    // 반영 누적값 보관 시간(ms), 이보다 오래 반영이 없으면 정리 (영상 카드 캐시 만료 시간 이상이어야 함)
+    private final long flushedRetentionMillis;
+    // 반영 대기 중인 가장 오래된 조회 시각(ms), 없으면 0
+    private final AtomicLong oldestPendingAt = new AtomicLong();
+    private final DistributionSummary batchSize;
+    private final Timer flushLag;
+    private final Timer flushDuration;
+
+    public VideoViewCounter(JdbcTemplate jdbcTemplate,
+                            TransactionTemplate transactionTemplate,
+                            VideoListCardSynchronizer videoListCardSynchronizer,
+                            MeterRegistry meterRegistry,
+                            @Value("${video.card-cache.expire-after-write:600}") long cardExpireAfterWriteSeconds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.videoListCardSynchronizer = videoListCardSynchronizer;
+        this.flushedRetentionMillis = TimeUnit.SECONDS.toMillis(cardExpireAfterWriteSeconds);
+        this.batchSize = DistributionSummary.builder("video.views.flush.batch.size")
+                .description("한 번의 flush에 포함된 영상 수")
+                .register(meterRegistry);
+        this.flushLag = Timer.builder("video.views.flush.lag")
+                .description("조회 발생부터 DB 반영까지 걸린 최대 시간")
+                .register(meterRegistry);
+        this.flushDuration = Timer.builder("video.views.flush.duration")
+                .description("flush 배치 실행 시간")
+                .register(meterRegistry);
+        Gauge.builder("video.views.pending", pendingViews, views -> views.values().stream().filter(adder -> adder.sum() != 0).count())
+                .description("반영 대기 중인 영상 수")
+                .register(meterRegistry);
+    }
+
+    // 조회 수 1 증가 (메모리)
+    public void increase(Long videoId) {
+        add(videoId, 1);
+    }
+
+    // 조회 수 delta 증가 (메모리)
+    public void add(Long videoId, long delta) {
+        LongAdder adder = pendingViews.computeIfAbsent(videoId, id -> new LongAdder());
+        adder.add(delta);
+        oldestPendingAt.compareAndSet(0, System.currentTimeMillis());
+        // flush가 그 사이 정리한 누산기에 더했다면 새 누산기로 옮김
+        if (pendingViews.get(videoId) != adder) {
+            long moved = adder.sumThenReset();
+            if (moved != 0) add(videoId, moved);
+        }
+    }
+
+    // 아직 DB에 반영되지 않은 조회 수
+    public long getPendingViews(Long videoId) {
+        LongAdder adder = pendingViews.get(videoId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    // 지금까지 DB에 반영한 조회 수 누적값
+    public FlushedViews getFlushedViews(Long videoId) {
+        return flushedViews.getOrDefault(videoId, FlushedViews.NONE);
+    }
+
+    @Scheduled(fixedDelayString = "${video.views.flush-interval:5000}")
+    public synchronized void flush() {
+        long pendingSince = oldestPendingAt.getAndSet(0);
+        // 1. 누적된 조회 수 수집
+        List<Object[]> batch = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> entry : pendingViews.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            if (delta > 0) batch.add(new Object[]{delta, entry.getKey()});
+        }
+        if (batch.isEmpty()) {
+            prune();
+            return;
+        }
+        // 2. 배치 UPDATE (한 트랜잭션, 일부만 반영된 채 되돌려 중복 합산되는 일이 없도록)
+        long startedAt = System.nanoTime();
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batch));
+        } catch (RuntimeException e) {
+            // 2-1. 실패 시 다음 flush에서 다시 반영되도록 되돌림
+            log.warn("조회 수 반영 실패, 다음 주기에 재시도합니다. 영상 수: {}", batch.size(), e);
+            for (Object[] row : batch) {
+                pendingViews.computeIfAbsent((Long) row[1], id -> new LongAdder()).add((Long) row[0]);
+            }
+            oldestPendingAt.compareAndSet(0, pendingSince == 0 ? System.currentTimeMillis() : pendingSince);
+            return;
+        }
+        long flushedAt = System.currentTimeMillis();
+        for (Object[] row : batch) {
+            long delta = (Long) row[0];
+            flushedViews.compute((Long) row[1], (id, previous) -> previous == null
+                    ? new FlushedViews(generations.incrementAndGet(), delta, flushedAt)
+                    : new FlushedViews(previous.generation(), previous.total() + delta, flushedAt));
+            videoListCardSynchronizer.markDirty((Long) row[1]);
+        }
+        // 3. 정리
+        prune();
+        // 4. Metrics
+        flushDuration.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        batchSize.record(batch.size());
+        if (pendingSince > 0) flushLag.record(System.currentTimeMillis() - pendingSince, TimeUnit.MILLISECONDS);
+    }
+
+    // 반영이 끝난 누산기와 오래된 반영 누적값 정리
+    private void prune() {
+        // 1. 값이 0인 누산기 제거 (제거 직전에 더해진 값은 새 누산기로 옮김)
+        for (Map.Entry<Long, LongAdder> entry : pendingViews.entrySet()) {
+            LongAdder adder = entry.getValue();
+            if (adder.sum() != 0 || !pendingViews.remove(entry.getKey(), adder)) continue;
+            long leftover = adder.sumThenReset();
+            if (leftover != 0) add(entry.getKey(), leftover);
+        }
+        // 2. 카드 캐시 만료 시간보다 오래 반영이 없는 누적값 제거 (캐시된 카드는 모두 마지막 반영 이후에 적재됨)
+        long expiredBefore = System.currentTimeMillis() - flushedRetentionMillis;
+        flushedViews.values().removeIf(flushed -> flushed.flushedAt() < expiredBefore);
+    }
+
+    // 종료 시 남은 조회 수 반영
+    @PreDestroy
+    public void drain() {
+        flush();
+    }
+}
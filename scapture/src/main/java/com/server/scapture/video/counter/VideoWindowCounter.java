@@ -0,0 +1,207 @@
+package com.server.scapture.video.counter;
+
+import com.server.scapture.video.dto.GetStadiumNameAndImageDto;
+import com.server.scapture.video.dto.GetVideoChartResponseDto;
+import com.server.scapture.video.dto.GetVideosByLikeCountResponseDto;
+import com.server.scapture.video.repository.VideoHourlyStatRepository;
+import com.server.scapture.video.repository.VideoListCardRepository;
+import com.server.scapture.video.repository.VideoRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 최근 1시간 / 24시간 / 7일 조회·좋아요 차트
+// 영상별 분/시간 링 버퍼(SlidingWindow)에 이벤트를 누적하고, 시간 버킷은 주기적으로 video_hourly_stat에 체크포인트한다.
+// 차트는 (구간, 기준, 경기장)별 상위 K개를 주기적으로 미리 계산해 두므로 조회는 O(K)다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VideoWindowCounter {
+    // 카드 정보 IN 조회 한 번에 담을 영상 수
+    private static final int HYDRATE_CHUNK_SIZE = 1000;
+
+    private final VideoRepository videoRepository;
+    private final VideoListCardRepository videoListCardRepository;
+    private final VideoHourlyStatRepository videoHourlyStatRepository;
+    private final TransactionTemplate transactionTemplate;
+    // 영상 PK -> 링 버퍼
+    private final ConcurrentHashMap<Long, SlidingWindow> windows = new ConcurrentHashMap<>();
+    // 영상 PK -> 경기장 PK (영상의 경기장은 바뀌지 않음)
+    private final ConcurrentHashMap<Long, Long> videoStadiums = new ConcurrentHashMap<>();
+    private final AtomicReference<Map<ChartKey, List<GetVideoChartResponseDto>>> charts = new AtomicReference<>(Map.of());
+    @Value("${video.charts.size:10}")
+    private int chartSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        // 최근 7일 체크포인트 복원 (분 단위 버킷은 복원하지 않음)
+        long since = currentMinute() / 60 - SlidingWindow.HOURS + 1;
+        List<VideoHourlyStatRow> rows = videoHourlyStatRepository.findSince(since);
+        for (VideoHourlyStatRow row : rows) {
+            windows.computeIfAbsent(row.videoId(), id -> new SlidingWindow()).restore(row.bucketHour(), row.views(), row.likes());
+        }
+        log.info("영상 차트 체크포인트 복원 완료: {}행", rows.size());
+        refresh();
+    }
+
+    public void recordView(Long videoId) {
+        record(videoId, ChartMetric.VIEWS, 1);
+    }
+
+    public void recordLike(Long videoId) {
+        record(videoId, ChartMetric.LIKES, 1);
+    }
+
+    public void recordUnlike(Long videoId) {
+        record(videoId, ChartMetric.LIKES, -1);
+    }
+
+    // 미리 계산된 차트 (stadiumId가 null이면 전체, 공유 객체이므로 수정하지 말 것)
+    public List<GetVideoChartResponseDto> chart(ChartWindow window, ChartMetric metric, Long stadiumId) {
+        return charts.get().getOrDefault(new ChartKey(window, metric, stadiumId), List.of());
+    }
+
+    // 시간 버킷 체크포인트 (바뀐 차이만 upsert)
+    @Scheduled(fixedDelayString = "${video.charts.checkpoint-interval:60000}")
+    public synchronized void checkpoint() {
+        // 1. 바뀐 버킷 수집
+        List<VideoHourlyStatRow> rows = new ArrayList<>();
+        for (Map.Entry<Long, SlidingWindow> entry : windows.entrySet()) {
+            for (long[] dirty : entry.getValue().drainDirty()) {
+                rows.add(new VideoHourlyStatRow(entry.getKey(), dirty[0], dirty[1], dirty[2]));
+            }
+        }
+        // 2. upsert (한 트랜잭션, 일부 배치만 반영된 채 되돌려 중복 합산되는 일이 없도록)
+        try {
+            transactionTemplate.executeWithoutResult(status -> videoHourlyStatRepository.addAll(rows));
+        } catch (RuntimeException e) {
+            // 2-1. 실패 시 다음 체크포인트에서 다시 반영되도록 되돌림
+            log.warn("영상 차트 체크포인트 실패, 다음 주기에 재시도합니다. 행 수: {}", rows.size(), e);
+            for (VideoHourlyStatRow row : rows) {
+                SlidingWindow window = windows.get(row.videoId());
+                if (window != null) window.undoCheckpoint(row.bucketHour(), row.views(), row.likes());
+            }
+            return;
+        }
+        // 3. 7일 지난 버킷 정리 (이미 반영된 upsert는 되돌리지 않고, 다음 주기에 다시 정리)
+        try {
+            videoHourlyStatRepository.deleteBefore(currentMinute() / 60 - SlidingWindow.HOURS + 1);
+        } catch (RuntimeException e) {
+            log.warn("영상 차트 오래된 버킷 정리 실패, 다음 주기에 재시도합니다.", e);
+        }
+    }
+
+    // 종료 시 남은 버킷 반영
+    @PreDestroy
+    public void drain() {
+        checkpoint();
+    }
+
+    // 차트 스냅샷 갱신
+    @Scheduled(initialDelayString = "${video.charts.refresh-interval:60000}", fixedDelayString = "${video.charts.refresh-interval:60000}")
+    public void refresh() {
+        long currentMinute = currentMinute();
+        long currentHour = currentMinute / 60;
+        // 1. 7일 동안 변화 없는 영상 제거
+        windows.entrySet().removeIf(entry -> entry.getValue().isExpired(currentHour));
+        // 2. 경기장 매핑이 없는 영상 조회
+        List<Long> unknownIds = windows.keySet().stream().filter(id -> !videoStadiums.containsKey(id)).toList();
+        for (int from = 0; from < unknownIds.size(); from += HYDRATE_CHUNK_SIZE) {
+            List<Long> chunk = unknownIds.subList(from, Math.min(from + HYDRATE_CHUNK_SIZE, unknownIds.size()));
+            for (VideoStadiumId row : videoRepository.findStadiumIdsByIdIn(chunk)) {
+                videoStadiums.put(row.videoId(), row.stadiumId());
+            }
+        }
+        // 3. (구간, 기준, 경기장)별 상위 K개 선택 (크기 K 최소 힙, {영상 PK, 값})
+        Map<ChartKey, PriorityQueue<long[]>> heaps = new HashMap<>();
+        for (Map.Entry<Long, SlidingWindow> entry : windows.entrySet()) {
+            Long videoId = entry.getKey();
+            Long stadiumId = videoStadiums.get(videoId);
+            for (ChartWindow window : ChartWindow.values()) {
+                for (ChartMetric metric : ChartMetric.values()) {
+                    long count = switch (window) {
+                        case HOUR -> entry.getValue().sumMinutes(metric, currentMinute);
+                        case DAY -> entry.getValue().sumHours(metric, 24, currentHour);
+                        case WEEK -> entry.getValue().sumHours(metric, SlidingWindow.HOURS, currentHour);
+                    };
+                    if (count <= 0) continue;
+                    offer(heaps, new ChartKey(window, metric, null), videoId, count);
+                    if (stadiumId != null) offer(heaps, new ChartKey(window, metric, stadiumId), videoId, count);
+                }
+            }
+        }
+        // 4. 카드 정보 조회 (IN 조회)
+        Set<Long> videoIds = new HashSet<>();
+        heaps.values().forEach(heap -> heap.forEach(item -> videoIds.add(item[0])));
+        Map<Long, GetVideosByLikeCountResponseDto> cardMap = new HashMap<>();
+        List<Long> idList = new ArrayList<>(videoIds);
+        for (int from = 0; from < idList.size(); from += HYDRATE_CHUNK_SIZE) {
+            List<Long> chunk = idList.subList(from, Math.min(from + HYDRATE_CHUNK_SIZE, idList.size()));
+            for (GetVideosByLikeCountResponseDto card : videoListCardRepository.findVideoCardsByIdIn(chunk)) {
+                cardMap.put(card.getVideoId(), card);
+            }
+        }
+        // 5. 값 내림차순 차트 생성
+        Map<ChartKey, List<GetVideoChartResponseDto>> updated = new HashMap<>();
+        for (Map.Entry<ChartKey, PriorityQueue<long[]>> entry : heaps.entrySet()) {
+            List<long[]> items = new ArrayList<>(entry.getValue());
+            items.sort(Comparator.comparingLong((long[] item) -> item[1]).reversed().thenComparingLong(item -> item[0]));
+            List<GetVideoChartResponseDto> chart = new ArrayList<>(items.size());
+            for (long[] item : items) {
+                GetVideosByLikeCountResponseDto card = cardMap.get(item[0]);
+                if (card == null) continue;
+                GetVideoChartResponseDto responseDto = GetVideoChartResponseDto.builder()
+                        .videoId(card.getVideoId())
+                        .name(card.getName())
+                        .image(card.getImage())
+                        .date(card.getDate())
+                        .count(item[1])
+                        .stadium(GetStadiumNameAndImageDto.builder()
+                                .name(card.getStadium().getName())
+                                .image(card.getStadium().getImage())
+                                .build())
+                        .build();
+                chart.add(responseDto);
+            }
+            updated.put(entry.getKey(), List.copyOf(chart));
+        }
+        charts.set(updated);
+    }
+
+    private void record(Long videoId, ChartMetric metric, long delta) {
+        windows.computeIfAbsent(videoId, id -> new SlidingWindow()).add(metric, delta, currentMinute());
+    }
+
+    private void offer(Map<ChartKey, PriorityQueue<long[]>> heaps, ChartKey key, Long videoId, long count) {
+        PriorityQueue<long[]> heap = heaps.computeIfAbsent(key, k -> new PriorityQueue<>(Comparator.comparingLong((long[] item) -> item[1])));
+        if (heap.size() < chartSize) heap.add(new long[]{videoId, count});
+        else if (heap.peek()[1] < count) {
+            heap.poll();
+            heap.add(new long[]{videoId, count});
+        }
+    }
+
+    private static long currentMinute() {
+        return System.currentTimeMillis() / 60_000;
+    }
+
+    private record ChartKey(ChartWindow window, ChartMetric metric, Long stadiumId) {
+    }
+}
@@ -0,0 +1,18 @@
+package com.server.scapture.video.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter @Setter
+@AllArgsConstructor
+@Builder
+public class GetVideoChartResponseDto {
+    private Long videoId;
+    private String name;
+    private String image;
+    private String date;
+    private long count;     // 구간 내 조회 수 또는 좋아요 수
+    private GetStadiumNameAndImageDto stadium;
+}
@@ -17,5 +17,6 @@ public class GetVideoDetailResponseDto {
     private Boolean isStored;
     private int likeCount;
     private int views;
+    private long uniqueViewers;     // 오늘 순 시청자 수 (추정)
     private GetStadiumInfoDto stadium;
 }
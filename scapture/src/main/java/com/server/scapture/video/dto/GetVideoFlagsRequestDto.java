@@ -0,0 +1,17 @@
+package com.server.scapture.video.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GetVideoFlagsRequestDto {
+    private List<Long> videoIds;
+}
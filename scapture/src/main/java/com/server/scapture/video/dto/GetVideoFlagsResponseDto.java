@@ -0,0 +1,16 @@
+package com.server.scapture.video.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter @Setter
+@AllArgsConstructor
+@Builder
+public class GetVideoFlagsResponseDto {
+    private Long videoId;
+    private Boolean isLiked;
+    private Boolean isStored;
+    private Boolean isDownloaded;
+}
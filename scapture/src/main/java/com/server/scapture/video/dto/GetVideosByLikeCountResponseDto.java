@@ -1,10 +1,13 @@
 package com.server.scapture.video.dto;
 
+import com.server.scapture.domain.Schedule;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.time.LocalDateTime;
+
 @Getter @Setter
 @AllArgsConstructor
 @Builder
@@ -16,4 +19,18 @@ public class GetVideosByLikeCountResponseDto {
     private int likeCount;
     private int views;
     private GetStadiumNameAndImageDto stadium;
+
+    // Video -> Schedule -> Field -> Stadium -> Image 단일 조회 프로젝션용 생성자
+    public GetVideosByLikeCountResponseDto(Long videoId, String name, String image, LocalDateTime startDate, int likeCount, int views, String stadiumName, String stadiumImage) {
+        this.videoId = videoId;
+        this.name = name;
+        this.image = image;
+        this.date = Schedule.convertAll(startDate);
+        this.likeCount = likeCount;
+        this.views = views;
+        this.stadium = GetStadiumNameAndImageDto.builder()
+                .name(stadiumName)
+                .image(stadiumImage)
+                .build();
+    }
 }
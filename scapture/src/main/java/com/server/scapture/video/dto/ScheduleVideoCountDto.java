@@ -0,0 +1,5 @@
+package com.server.scapture.video.dto;
+
+// 운영 일정별 영상 수
+public record ScheduleVideoCountDto(Long scheduleId, Long videoCount) {
+}
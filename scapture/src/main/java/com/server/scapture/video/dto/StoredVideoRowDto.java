@@ -0,0 +1,7 @@
+package com.server.scapture.video.dto;
+
+import java.time.LocalDateTime;
+
+// 저장 영상 keyset 조회용 프로젝션 (정렬 키 포함)
+public record StoredVideoRowDto(Long videoId, String image, LocalDateTime endDate, int likeCount) {
+}
@@ -0,0 +1,17 @@
+package com.server.scapture.video.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter @Setter
+@AllArgsConstructor
+@Builder
+public class VideoBulkBatchResultDto {
+    private int batch;          // 배치 번호 (1부터)
+    private int received;       // 받은 줄 수
+    private int inserted;       // 저장된 영상 수
+    private int rejected;       // 형식 오류 / 존재하지 않는 운영 일정
+    private long elapsedMs;     // 배치 저장 시간
+}
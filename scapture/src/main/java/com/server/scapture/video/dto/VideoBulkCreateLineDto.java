@@ -0,0 +1,19 @@
+package com.server.scapture.video.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// NDJSON 한 줄 = 영상 1개
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VideoBulkCreateLineDto {
+    private Long scheduleId;
+    private String name;
+    private String image;
+    private String video;
+}
@@ -0,0 +1,20 @@
+package com.server.scapture.video.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter @Setter
+@AllArgsConstructor
+@Builder
+public class VideoBulkCreateResponseDto {
+    private int received;
+    private int inserted;
+    private int rejected;
+    private long elapsedMs;
+    private double clipsPerSecond;
+    private List<VideoBulkBatchResultDto> batches;
+}
@@ -0,0 +1,7 @@
+package com.server.scapture.video.ranking;
+
+import java.time.LocalDateTime;
+
+// 급상승 점수 차감용 (좋아요/저장 시각 + 경기 시작 시각, 생성 시각이 없는 기존 행은 경기 시작 시각 기준)
+public record TrendingEventTime(LocalDateTime createdAt, LocalDateTime startDate) {
+}
@@ -0,0 +1,7 @@
+package com.server.scapture.video.ranking;
+
+import java.time.LocalDateTime;
+
+// 급상승 점수 초기 적재용 (누적 좋아요/조회/저장 수 + 경기 시작 시각)
+public record TrendingSeed(Long videoId, int likeCount, int views, Long storeCount, LocalDateTime startDate) {
+}
@@ -0,0 +1,186 @@
+package com.server.scapture.video.ranking;
+
+import com.server.scapture.video.counter.VideoViewCounter;
+import com.server.scapture.video.dto.GetVideosByLikeCountResponseDto;
+import com.server.scapture.video.repository.VideoListCardRepository;
+import com.server.scapture.video.repository.VideoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 급상승(시간 감쇠) 영상 랭킹
+// 점수 = Σ 가중치 * exp(-λ * (현재 - 이벤트 시각)), λ = ln2 / 반감기
+// 모든 영상에 같은 exp(-λ * 현재)가 곱해지므로 기준 시각(baseTime) 대비 exp(λ * (이벤트 시각 - baseTime))만 누적해도 순위는 같다.
+// 이벤트마다 O(1)로 증분 갱신하고, 지수가 커지면 기준 시각을 옮겨(rebase) 전체를 한 번 줄인다.
+// 좋아요/저장 취소는 그 이벤트가 더해졌던 시각 기준으로 감쇠된 값을 빼므로 남은 기여분은 그대로 유지된다.
+// 요청은 주기적으로 만든 상위 N개 스냅샷만 읽는다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrendingVideoScorer {
+    // exp(50) ≈ 5e21, double 정밀도 여유를 두고 rebase
+    private static final double REBASE_EXPONENT = 50;
+    private static final double MIN_SCORE = 1e-9;
+
+    private final VideoRepository videoRepository;
+    private final VideoListCardRepository videoListCardRepository;
+    private final VideoViewCounter videoViewCounter;
+    // 영상 PK -> baseTime 기준 누적 점수
+    private final ConcurrentHashMap<Long, Double> scores = new ConcurrentHashMap<>();
+    // 이벤트 반영(read)과 rebase(write)가 섞이지 않도록 보호
+    private final ReentrantReadWriteLock rebaseLock = new ReentrantReadWriteLock();
+    private final AtomicReference<List<GetVideosByLikeCountResponseDto>> snapshot = new AtomicReference<>(List.of());
+    private volatile long baseTime = System.currentTimeMillis();
+    // 초기 적재 시각 (이전의 좋아요/저장은 경기 시작 시각에 더해져 있음)
+    private volatile long seededAt;
+
+    @Value("${video.trending.half-life-hours:24}")
+    private double halfLifeHours;
+    @Value("${video.trending.weight.like:3}")
+    private double likeWeight;
+    @Value("${video.trending.weight.view:1}")
+    private double viewWeight;
+    @Value("${video.trending.weight.store:5}")
+    private double storeWeight;
+    @Value("${video.trending.snapshot-size:100}")
+    private int snapshotSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        // 누적 수치는 경기 시작 시각에 발생한 것으로 간주해 적재
+        seededAt = System.currentTimeMillis();
+        List<TrendingSeed> seeds = videoRepository.findTrendingSeeds();
+        for (TrendingSeed seed : seeds) {
+            double weight = seed.likeCount() * likeWeight + seed.views() * viewWeight + seed.storeCount() * storeWeight;
+            add(seed.videoId(), weight, toEpochMilli(seed.startDate()));
+        }
+        log.info("급상승 점수 적재 완료: {}개", seeds.size());
+        refresh();
+    }
+
+    public void like(Long videoId) {
+        add(videoId, likeWeight, System.currentTimeMillis());
+    }
+
+    // 좋아요가 더해졌던 시각 기준으로 차감
+    public void unlike(Long videoId, TrendingEventTime likedAt) {
+        add(videoId, -likeWeight, addedAt(likedAt));
+    }
+
+    public void view(Long videoId) {
+        add(videoId, viewWeight, System.currentTimeMillis());
+    }
+
+    public void store(Long videoId) {
+        add(videoId, storeWeight, System.currentTimeMillis());
+    }
+
+    // 저장이 더해졌던 시각 기준으로 차감
+    public void unstore(Long videoId, TrendingEventTime storedAt) {
+        add(videoId, -storeWeight, addedAt(storedAt));
+    }
+
+    // 상위 size개 스냅샷 (공유 객체이므로 수정하지 말 것)
+    public List<GetVideosByLikeCountResponseDto> top(int size) {
+        List<GetVideosByLikeCountResponseDto> current = snapshot.get();
+        return current.subList(0, Math.min(size, current.size()));
+    }
+
+    public int getSnapshotSize() {
+        return snapshotSize;
+    }
+
+    // 스냅샷 갱신
+    @Scheduled(initialDelayString = "${video.trending.refresh-interval:60000}", fixedDelayString = "${video.trending.refresh-interval:60000}")
+    public void refresh() {
+        // 1. 필요 시 기준 시각 이동
+        long now = System.currentTimeMillis();
+        if (lambda() * (now - baseTime) > REBASE_EXPONENT) rebase(now);
+        // 2. 상위 N개 선택 (크기 N 최소 힙)
+        PriorityQueue<Map.Entry<Long, Double>> heap = new PriorityQueue<>(Map.Entry.comparingByValue());
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            if (heap.size() < snapshotSize) heap.add(Map.entry(entry.getKey(), entry.getValue()));
+            else if (heap.peek().getValue() < entry.getValue()) {
+                heap.poll();
+                heap.add(Map.entry(entry.getKey(), entry.getValue()));
+            }
+        }
+        List<Long> videoIds = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) videoIds.add(heap.poll().getKey());
+        // 점수 내림차순
+        Collections.reverse(videoIds);
+        // 3. 카드 정보 조회 (영상 목록 카드)
+        List<GetVideosByLikeCountResponseDto> ranked = new ArrayList<>(videoIds.size());
+        if (!videoIds.isEmpty()) {
+            Map<Long, GetVideosByLikeCountResponseDto> cardMap = new HashMap<>();
+            for (GetVideosByLikeCountResponseDto card : videoListCardRepository.findVideoCardsByIdIn(videoIds)) {
+                cardMap.put(card.getVideoId(), card);
+            }
+            for (Long videoId : videoIds) {
+                GetVideosByLikeCountResponseDto card = cardMap.get(videoId);
+                if (card == null) continue;
+                card.setViews(card.getViews() + (int) videoViewCounter.getPendingViews(videoId));
+                ranked.add(card);
+            }
+        }
+        snapshot.set(List.copyOf(ranked));
+    }
+
+    private void add(Long videoId, double weight, long occurredAt) {
+        rebaseLock.readLock().lock();
+        try {
+            // 미래 시각(예정된 경기)은 현재로 취급
+            long at = Math.min(occurredAt, System.currentTimeMillis());
+            double delta = weight * Math.exp(lambda() * (at - baseTime));
+            scores.compute(videoId, (id, old) -> Math.max(0, (old == null ? 0 : old) + delta));
+        } finally {
+            rebaseLock.readLock().unlock();
+        }
+    }
+
+    private void rebase(long newBaseTime) {
+        rebaseLock.writeLock().lock();
+        try {
+            double factor = Math.exp(-lambda() * (newBaseTime - baseTime));
+            scores.replaceAll((id, score) -> score * factor);
+            scores.values().removeIf(score -> score < MIN_SCORE);
+            baseTime = newBaseTime;
+        } finally {
+            rebaseLock.writeLock().unlock();
+        }
+        log.info("급상승 점수 기준 시각 이동, 영상 수: {}", scores.size());
+    }
+
+    // 이벤트가 점수에 더해진 시각 (초기 적재 이전 이벤트와 생성 시각이 없는 기존 행은 경기 시작 시각)
+    private long addedAt(TrendingEventTime eventTime) {
+        long seedTime = toEpochMilli(eventTime.startDate());
+        if (eventTime.createdAt() == null) return seedTime;
+        long createdAt = toEpochMilli(eventTime.createdAt());
+        return createdAt >= seededAt ? createdAt : seedTime;
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    // 밀리초당 감쇠율
+    private double lambda() {
+        return Math.log(2) / (halfLifeHours * 60 * 60 * 1000);
+    }
+}
@@ -0,0 +1,123 @@
+package com.server.scapture.video.ranking;
+
+import com.server.scapture.video.repository.VideoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.IntUnaryOperator;
+
+// 좋아요 수 기준 인기 영상 리더보드
+// 시작 시 DB에서 전체를 적재하고, 이후에는 좋아요 추가/해제 이벤트로 증분 갱신한다.
+// (다중 인스턴스 간 오차는 주기적인 재적재로 보정, 재적재 도중 이벤트로 바뀐 영상은 덮어쓰지 않고 다음 재적재에서 보정)
+// 재적재 값에는 아직 합산되지 않은 분산 카운터 증감분도 포함되므로 합산 주기와 관계없이 줄어들지 않는다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VideoLeaderboard {
+    // 좋아요 수 내림차순, 같으면 먼저 등록된 영상 우선
+    private static final Comparator<VideoRank> ORDER = Comparator
+            .comparingInt(VideoRank::likeCount).reversed()
+            .thenComparing(VideoRank::videoId);
+
+    private final VideoRepository videoRepository;
+    // 영상 PK -> 현재 좋아요 수
+    private final ConcurrentHashMap<Long, Integer> likeCounts = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<VideoRank> ranking = new ConcurrentSkipListSet<>(ORDER);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        rebuild();
+    }
+
+    // DB 기준 재적재
+    @Scheduled(initialDelayString = "${video.leaderboard.rebuild-interval:600000}", fixedDelayString = "${video.leaderboard.rebuild-interval:600000}")
+    public synchronized void rebuild() {
+        // 1. 조회 전 값 (이후 바뀐 영상은 DB 값보다 최신이므로 건너뜀)
+        Map<Long, Integer> expected = new HashMap<>(likeCounts);
+        List<VideoRank> ranks = videoRepository.findAllRanks();
+        // 2. 바뀌지 않은 영상만 DB 값으로 교체
+        Set<Long> loadedIds = new HashSet<>(ranks.size());
+        int skipped = 0;
+        for (VideoRank rank : ranks) {
+            loadedIds.add(rank.videoId());
+            if (!compareAndSet(rank.videoId(), expected.get(rank.videoId()), rank.likeCount())) skipped++;
+        }
+        // 3. DB에 없는 영상 제거 (조회 이후 등록/갱신된 영상은 유지)
+        int removed = 0;
+        for (Map.Entry<Long, Integer> entry : expected.entrySet()) {
+            if (!loadedIds.contains(entry.getKey()) && compareAndSet(entry.getKey(), entry.getValue(), null)) removed++;
+        }
+        log.info("인기 영상 리더보드 적재 완료: {}개 (갱신 중 변경 {}개 유지, {}개 제거)", ranks.size(), skipped, removed);
+    }
+
+    // 신규 영상 등록 (이미 있으면 무시)
+    public void add(Long videoId) {
+        update(videoId, old -> old);
+    }
+
+    public void increase(Long videoId) {
+        update(videoId, old -> old + 1);
+    }
+
+    public void decrease(Long videoId) {
+        update(videoId, old -> Math.max(0, old - 1));
+    }
+
+    public int getLikeCount(Long videoId) {
+        return likeCounts.getOrDefault(videoId, 0);
+    }
+
+    // 상위 size개
+    public List<VideoRank> top(int size) {
+        List<VideoRank> result = new ArrayList<>(size);
+        Set<Long> seen = new HashSet<>();
+        for (VideoRank rank : ranking) {
+            if (result.size() == size) break;
+            // 갱신 도중 같은 영상이 잠시 두 번 보일 수 있으므로 중복 제거
+            if (seen.add(rank.videoId())) result.add(rank);
+        }
+        return result;
+    }
+
+    // 현재 값이 expected일 때만 next로 교체 (null: 없음/제거), 교체했거나 이미 같으면 true
+    private boolean compareAndSet(Long videoId, Integer expected, Integer next) {
+        boolean[] matched = {false};
+        likeCounts.compute(videoId, (id, old) -> {
+            if (!Objects.equals(old, expected)) return old;
+            matched[0] = true;
+            if (Objects.equals(old, next)) return old;
+            if (old != null) ranking.remove(new VideoRank(id, old));
+            if (next != null) ranking.add(new VideoRank(id, next));
+            return next;
+        });
+        return matched[0];
+    }
+
+    // 영상 단위로 원자적으로 (맵, 정렬 집합) 갱신
+    private void update(Long videoId, IntUnaryOperator operator) {
+        likeCounts.compute(videoId, (id, old) -> {
+            int current = old == null ? 0 : old;
+            int next = operator.applyAsInt(current);
+            if (old != null) {
+                if (current == next) return old;
+                ranking.remove(new VideoRank(id, current));
+            }
+            ranking.add(new VideoRank(id, next));
+            return next;
+        });
+    }
+}
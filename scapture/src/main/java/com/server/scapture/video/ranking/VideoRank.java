@@ -0,0 +1,5 @@
+package com.server.scapture.video.ranking;
+
+// 영상 PK + 좋아요 수 (리더보드 항목)
+public record VideoRank(Long videoId, int likeCount) {
+}
@@ -0,0 +1,53 @@
+package com.server.scapture.video.repository;
+
+import com.server.scapture.video.dto.VideoBulkCreateLineDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// 영상 대량 저장
+// Video는 IDENTITY 전략이라 Hibernate 배치가 불가능하므로 JDBC 배치로 직접 저장한다.
+// (rewriteBatchedStatements=true -> MySQL 드라이버가 multi-row INSERT로 변환, 생성된 PK도 모두 돌려줌)
+@Repository
+@RequiredArgsConstructor
+public class VideoBulkRepository {
+    private static final String INSERT_SQL = "INSERT INTO video (schedule_id, name, image, video, like_count, views) VALUES (?, ?, ?, ?, 0, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 저장 후 생성된 영상 PK
+    public List<Long> insertAll(List<VideoBulkCreateLineDto> videoList) {
+        if (videoList.isEmpty()) return List.of();
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS), new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                VideoBulkCreateLineDto video = videoList.get(i);
+                ps.setLong(1, video.getScheduleId());
+                ps.setString(2, video.getName());
+                ps.setString(3, video.getImage());
+                ps.setString(4, video.getVideo());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return videoList.size();
+            }
+        }, keyHolder);
+        List<Long> insertedIds = new ArrayList<>(videoList.size());
+        for (Map<String, Object> keys : keyHolder.getKeyList()) {
+            insertedIds.add(((Number) keys.values().iterator().next()).longValue());
+        }
+        return insertedIds;
+    }
+}
@@ -0,0 +1,60 @@
+package com.server.scapture.video.repository;
+
+import com.server.scapture.video.counter.VideoDailyViewerRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+// 영상 일별 순 시청자 스케치 (video_daily_viewer)
+// 여러 인스턴스가 같은 행에 쓰므로, 저장 전에 잠금 조회한 기존 스케치와 합친 값을 저장한다.
+@Repository
+@RequiredArgsConstructor
+public class VideoDailyViewerRepository {
+    private static final String UPSERT_SQL = "INSERT INTO video_daily_viewer (video_id, view_date, sketch, counted_views) VALUES (?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE sketch = VALUES(sketch), counted_views = VALUES(counted_views)";
+    private static final String SELECT_SQL = "SELECT video_id, view_date, sketch, counted_views FROM video_daily_viewer WHERE view_date = ?";
+    private static final String SELECT_FOR_UPDATE_SQL = "SELECT video_id, view_date, sketch, counted_views FROM video_daily_viewer WHERE view_date = ? AND video_id IN (%s) FOR UPDATE";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void saveAll(List<VideoDailyViewerRow> rows) {
+        if (rows.isEmpty()) return;
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setLong(1, row.videoId());
+            ps.setDate(2, Date.valueOf(row.viewDate()));
+            ps.setBytes(3, row.sketch());
+            ps.setLong(4, row.countedViews());
+        });
+    }
+
+    public List<VideoDailyViewerRow> findByViewDate(LocalDate viewDate) {
+        return jdbcTemplate.query(SELECT_SQL, (rs, rowNum) -> toRow(rs), Date.valueOf(viewDate));
+    }
+
+    // 저장 전 기존 스케치 잠금 조회 (트랜잭션 안에서 호출)
+    public List<VideoDailyViewerRow> findForUpdate(LocalDate viewDate, Collection<Long> videoIds) {
+        if (videoIds.isEmpty()) return List.of();
+        String sql = String.format(SELECT_FOR_UPDATE_SQL, String.join(",", Collections.nCopies(videoIds.size(), "?")));
+        List<Object> args = new ArrayList<>(videoIds.size() + 1);
+        args.add(Date.valueOf(viewDate));
+        args.addAll(videoIds);
+        return jdbcTemplate.query(sql, (rs, rowNum) -> toRow(rs), args.toArray());
+    }
+
+    private static VideoDailyViewerRow toRow(ResultSet rs) throws SQLException {
+        return new VideoDailyViewerRow(
+                rs.getLong("video_id"),
+                rs.getDate("view_date").toLocalDate(),
+                rs.getBytes("sketch"),
+                rs.getLong("counted_views"));
+    }
+}
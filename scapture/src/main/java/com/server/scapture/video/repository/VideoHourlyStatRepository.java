@@ -0,0 +1,43 @@
+package com.server.scapture.video.repository;
+
+import com.server.scapture.video.counter.VideoHourlyStatRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+// 영상 시간대별 통계 체크포인트 (video_hourly_stat)
+// 인스턴스별 차이를 더하는 upsert라 여러 인스턴스가 함께 기록해도 합산된다.
+@Repository
+@RequiredArgsConstructor
+public class VideoHourlyStatRepository {
+    private static final String UPSERT_SQL = "INSERT INTO video_hourly_stat (video_id, bucket_hour, views, likes) VALUES (?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE views = views + VALUES(views), likes = likes + VALUES(likes)";
+    private static final String SELECT_SQL = "SELECT video_id, bucket_hour, views, likes FROM video_hourly_stat WHERE bucket_hour >= ?";
+    private static final String DELETE_SQL = "DELETE FROM video_hourly_stat WHERE bucket_hour < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void addAll(List<VideoHourlyStatRow> rows) {
+        if (rows.isEmpty()) return;
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setLong(1, row.videoId());
+            ps.setLong(2, row.bucketHour());
+            ps.setLong(3, row.views());
+            ps.setLong(4, row.likes());
+        });
+    }
+
+    public List<VideoHourlyStatRow> findSince(long bucketHour) {
+        return jdbcTemplate.query(SELECT_SQL, (rs, rowNum) -> new VideoHourlyStatRow(
+                rs.getLong("video_id"),
+                rs.getLong("bucket_hour"),
+                rs.getLong("views"),
+                rs.getLong("likes")), bucketHour);
+    }
+
+    public int deleteBefore(long bucketHour) {
+        return jdbcTemplate.update(DELETE_SQL, bucketHour);
+    }
+}
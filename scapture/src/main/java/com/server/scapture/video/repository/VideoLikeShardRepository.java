@@ -0,0 +1,48 @@
+package com.server.scapture.video.repository;
+
+import com.server.scapture.video.counter.VideoLikeShardRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+// 영상 좋아요 분산 카운터 (video_like_shard)
+@Repository
+@RequiredArgsConstructor
+public class VideoLikeShardRepository {
+    private static final String ADD_SQL = "INSERT INTO video_like_shard (video_id, shard, count) VALUES (?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE count = count + VALUES(count)";
+    // 여러 인스턴스가 동시에 합산해도 같은 증감분을 두 번 반영하지 않도록 잠금 조회 (트랜잭션 안에서 호출)
+    private static final String SELECT_PENDING_SQL = "SELECT video_id, shard, count FROM video_like_shard WHERE count <> 0 FOR UPDATE";
+    private static final String SUBTRACT_SQL = "UPDATE video_like_shard SET count = count - ? WHERE video_id = ? AND shard = ?";
+    private static final String APPLY_SQL = "UPDATE video SET like_count = like_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void add(Long videoId, int shard, long delta) {
+        jdbcTemplate.update(ADD_SQL, videoId, shard, delta);
+    }
+
+    // 미반영 증감분 (잠금은 트랜잭션 종료까지 유지, 잠금을 기다린 쪽은 먼저 커밋된 차감 이후 값을 읽음)
+    public List<VideoLikeShardRow> findPending() {
+        return jdbcTemplate.query(SELECT_PENDING_SQL, (rs, rowNum) -> new VideoLikeShardRow(
+                rs.getLong("video_id"),
+                rs.getInt("shard"),
+                rs.getLong("count")));
+    }
+
+    // 읽은 만큼만 shard에서 빼므로 그 사이 들어온 증감분은 다음 rollup으로 남는다.
+    public void subtractAll(List<VideoLikeShardRow> rows) {
+        jdbcTemplate.batchUpdate(SUBTRACT_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setLong(1, row.count());
+            ps.setLong(2, row.videoId());
+            ps.setInt(3, row.shard());
+        });
+    }
+
+    // 영상 PK, 합산할 증감분
+    public void applyToVideos(List<Object[]> deltas) {
+        jdbcTemplate.batchUpdate(APPLY_SQL, deltas);
+    }
+}
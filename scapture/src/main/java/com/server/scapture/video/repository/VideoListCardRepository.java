@@ -0,0 +1,63 @@
+package com.server.scapture.video.repository;
+
+import com.server.scapture.domain.VideoListCard;
+import com.server.scapture.video.dto.GetVideosByLikeCountResponseDto;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+// 영상 목록 카드 (video_card)
+@Repository
+public interface VideoListCardRepository extends JpaRepository<VideoListCard, Long> {
+    // 카드가 없는 영상을 video + schedule + field + stadium + 경기장 첫 이미지에서 채움
+    String INSERT_MISSING_SQL = "INSERT IGNORE INTO video_card (video_id, schedule_id, stadium_id, name, image, start_date, end_date, stadium_name, stadium_image, like_count, views) " +
+            "SELECT v.id, s.id, st.id, v.name, v.image, s.start_date, s.end_date, st.name, " +
+            "(SELECT i.image FROM image i WHERE i.stadium_id = st.id ORDER BY i.id LIMIT 1), v.like_count, v.views " +
+            "FROM video v JOIN schedule s ON s.id = v.schedule_id JOIN field f ON f.id = s.field_id JOIN stadium st ON st.id = f.stadium_id " +
+            "LEFT JOIN video_card c ON c.video_id = v.id " +
+            "WHERE c.video_id IS NULL";
+
+    // keyset: (schedule_id, video_id) 인덱스
+    List<VideoListCard> findByScheduleIdOrderByVideoIdAsc(Long scheduleId);
+    List<VideoListCard> findByScheduleIdAndVideoIdGreaterThanOrderByVideoIdAsc(Long scheduleId, Long videoId, Pageable pageable);
+    @Query("SELECT new com.server.scapture.video.dto.GetVideosByLikeCountResponseDto(c.videoId, c.name, c.image, c.startDate, c.likeCount, c.views, c.stadiumName, c.stadiumImage) " +
+            "FROM VideoListCard c WHERE c.videoId IN :videoIds")
+    List<GetVideosByLikeCountResponseDto> findVideoCardsByIdIn(Collection<Long> videoIds);
+    // 전체 백필
+    @Transactional
+    @Modifying
+    @Query(value = INSERT_MISSING_SQL, nativeQuery = true)
+    int insertMissing();
+    // 영상이 추가된 운영 일정만
+    @Transactional
+    @Modifying
+    @Query(value = INSERT_MISSING_SQL + " AND v.schedule_id IN :scheduleIds", nativeQuery = true)
+    int insertMissingByScheduleIds(Collection<Long> scheduleIds);
+    // 경기장 이름/첫 이미지 반영
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE video_card c JOIN stadium st ON st.id = c.stadium_id " +
+            "SET c.stadium_name = st.name, c.stadium_image = (SELECT i.image FROM image i WHERE i.stadium_id = st.id ORDER BY i.id LIMIT 1) " +
+            "WHERE c.stadium_id = :stadiumId", nativeQuery = true)
+    int refreshStadium(Long stadiumId);
+    // 좋아요/조회 수가 바뀐 영상의 카드만 video 값으로 갱신
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE video_card c JOIN video v ON v.id = c.video_id " +
+            "SET c.like_count = v.like_count, c.views = v.views " +
+            "WHERE c.video_id IN :videoIds", nativeQuery = true)
+    int syncCountersByVideoIds(Collection<Long> videoIds);
+    // 전체 대조 (좋아요/조회 수가 달라진 카드만 video 값으로 갱신)
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE video_card c JOIN video v ON v.id = c.video_id " +
+            "SET c.like_count = v.like_count, c.views = v.views " +
+            "WHERE c.like_count <> v.like_count OR c.views <> v.views", nativeQuery = true)
+    int syncCounters();
+}
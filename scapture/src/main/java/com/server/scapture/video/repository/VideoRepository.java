@@ -2,18 +2,49 @@ package com.server.scapture.video.repository;
 
 import com.server.scapture.domain.Schedule;
 import com.server.scapture.domain.Video;
+import com.server.scapture.util.concurrent.LookupExecutor;
+import com.server.scapture.video.cache.VideoCard;
+import com.server.scapture.video.counter.VideoStadiumId;
+import com.server.scapture.video.dto.ScheduleVideoCountDto;
+import com.server.scapture.video.ranking.TrendingSeed;
+import com.server.scapture.video.ranking.VideoRank;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.SpecHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface VideoRepository extends JpaRepository<Video, Long> {
-    @Query("SELECT COUNT(*) FROM Video v WHERE v.schedule = :schedule")
-    int countBySchedule(Schedule schedule);
-    List<Video> findBySchedule(Schedule schedule);
-    List<Video> findTop10ByOrderByLikeCountDesc();
-    Optional<Video> findTop1ByOrderByLikeCountDesc();
+    // 여러 운영 일정의 영상 수를 한 번에 조회 (영상이 없는 일정은 결과에 없음)
+    @Query("SELECT new com.server.scapture.video.dto.ScheduleVideoCountDto(v.schedule.id, COUNT(v)) FROM Video v WHERE v.schedule IN :schedules GROUP BY v.schedule.id")
+    List<ScheduleVideoCountDto> countBySchedules(Collection<Schedule> schedules);
+    // 좋아요 수 = video.like_count + 아직 합산되지 않은 분산 카운터 증감분 (video.likes.sharded=false이면 shard 행 없음)
+    @Query("SELECT new com.server.scapture.video.ranking.VideoRank(v.id, " +
+            "CAST(v.likeCount + COALESCE((SELECT SUM(ls.count) FROM VideoLikeShard ls WHERE ls.video = v), 0) AS Integer)) FROM Video v")
+    List<VideoRank> findAllRanks();
+    @Query("SELECT new com.server.scapture.video.ranking.TrendingSeed(v.id, v.likeCount, v.views, (SELECT COUNT(st) FROM Store st WHERE st.video = v), s.startDate) " +
+            "FROM Video v JOIN v.schedule s")
+    List<TrendingSeed> findTrendingSeeds();
+    // 영상 세부 조회 카드 (영상 + 경기장 + 경기장 첫 이미지) 단일 쿼리
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_QUERY_TIMEOUT, value = LookupExecutor.QUERY_TIMEOUT_MILLIS))
+    @Query("SELECT new com.server.scapture.video.cache.VideoCard(v.id, v.name, v.image, v.video, v.views, st.id, st.name, st.description, st.location, st.isOutside, st.parking, i.image) " +
+            "FROM Video v JOIN v.schedule s JOIN s.field f JOIN f.stadium st " +
+            "LEFT JOIN Image i ON i.id = (SELECT MIN(i2.id) FROM Image i2 WHERE i2.stadium = st) " +
+            "WHERE v.id = :videoId")
+    Optional<VideoCard> findVideoCardById(Long videoId);
+    @Query("SELECT new com.server.scapture.video.counter.VideoStadiumId(v.id, f.stadium.id) FROM Video v JOIN v.schedule s JOIN s.field f WHERE v.id IN :videoIds")
+    List<VideoStadiumId> findStadiumIdsByIdIn(Collection<Long> videoIds);
+    @Modifying
+    @Query("UPDATE Video v SET v.likeCount = v.likeCount + 1 WHERE v.id = :videoId")
+    int increaseLikeCount(Long videoId);
+    @Modifying
+    @Query("UPDATE Video v SET v.likeCount = v.likeCount - 1 WHERE v.id = :videoId AND v.likeCount > 0")
+    int decreaseLikeCount(Long videoId);
 }
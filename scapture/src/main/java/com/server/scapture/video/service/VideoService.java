@@ -1,23 +1,30 @@
 package com.server.scapture.video.service;
 
 import com.server.scapture.util.response.CustomAPIResponse;
+import com.server.scapture.video.dto.GetVideoFlagsRequestDto;
 import com.server.scapture.video.dto.VideoCreateRequestDto;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 public interface VideoService {
     ResponseEntity<CustomAPIResponse<?>> createVideo(VideoCreateRequestDto videoCreateRequestDto);
-    ResponseEntity<CustomAPIResponse<?>> getVideos(Long scheduleId);
+    ResponseEntity<CustomAPIResponse<?>> createVideosInBulk(InputStream ndjson) throws IOException;
+    ResponseEntity<CustomAPIResponse<?>> getVideos(Long scheduleId, String cursor, Integer size);
     ResponseEntity<CustomAPIResponse<?>> getVideosByLikeCount();
-    ResponseEntity<CustomAPIResponse<?>> getStoredVideo(String header, String sort);
-    ResponseEntity<CustomAPIResponse<?>> getVideoDetail(String header, Long videoId);
+    ResponseEntity<CustomAPIResponse<?>> getTrendingVideos(Integer size);
+    ResponseEntity<CustomAPIResponse<?>> getVideoCharts(String window, String metric, Long stadiumId);
+    ResponseEntity<CustomAPIResponse<?>> getStoredVideo(String header, String sort, String cursor, Integer size);
+    ResponseEntity<CustomAPIResponse<?>> getVideoDetail(String header, Long videoId, String viewerFingerprint);
+    ResponseEntity<CustomAPIResponse<?>> getVideoFlags(String header, GetVideoFlagsRequestDto getVideoFlagsRequestDto);
     ResponseEntity<CustomAPIResponse<?>> createLike(String header, Long videoId);
     ResponseEntity<CustomAPIResponse<?>> deleteLike(String header, Long videoId);
     ResponseEntity<CustomAPIResponse<?>> createStore(String header, Long videoId);
     ResponseEntity<CustomAPIResponse<?>> deleteStore(String header, Long videoId);
     ResponseEntity<CustomAPIResponse<?>> createDownload(String header, Long videoId);
     ResponseEntity<CustomAPIResponse<?>> getDownload(String header, Long videoId);
+    ResponseEntity<?> streamVideo(String header, Long videoId, String range);
  }
\ No newline at end of file
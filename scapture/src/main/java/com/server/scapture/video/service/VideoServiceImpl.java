@@ -1,41 +1,116 @@
 package com.server.scapture.video.service;
 
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3ObjectInputStream;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.server.scapture.domain.*;
+import com.server.scapture.download.entitlement.DownloadEntitlementIndex;
 import com.server.scapture.download.repository.DownloadRepository;
-import com.server.scapture.field.repository.FieldRepository;
-import com.server.scapture.image.repository.ImageRepository;
 import com.server.scapture.oauth.jwt.JwtUtil;
 import com.server.scapture.schedule.repository.ScheduleRepository;
-import com.server.scapture.stadium.repository.StadiumRepository;
+import com.server.scapture.stadium.cache.ScheduleSheetCache;
 import com.server.scapture.store.repository.StoreRepository;
 import com.server.scapture.user.repository.UserRepository;
+import com.server.scapture.util.S3.S3Service;
+import com.server.scapture.util.S3.UrlAudience;
+import com.server.scapture.util.concurrent.LookupExecutor;
+import com.server.scapture.util.pagination.CursorUtil;
+import com.server.scapture.util.response.CursorPageResponseDto;
 import com.server.scapture.util.response.CustomAPIResponse;
+import com.server.scapture.util.transaction.TransactionUtil;
+import com.server.scapture.video.cache.VideoCard;
+import com.server.scapture.video.cache.VideoCardCache;
+import com.server.scapture.video.cache.VideoListCardSynchronizer;
+import com.server.scapture.video.counter.ChartMetric;
+import com.server.scapture.video.counter.ChartWindow;
+import com.server.scapture.video.counter.VideoLikeCounter;
+import com.server.scapture.video.counter.VideoUniqueViewerCounter;
+import com.server.scapture.video.counter.VideoViewCounter;
+import com.server.scapture.video.counter.VideoWindowCounter;
 import com.server.scapture.video.dto.*;
+import com.server.scapture.video.ranking.TrendingEventTime;
+import com.server.scapture.video.ranking.TrendingVideoScorer;
+import com.server.scapture.video.ranking.VideoLeaderboard;
+import com.server.scapture.video.ranking.VideoRank;
+import com.server.scapture.video.repository.VideoBulkRepository;
+import com.server.scapture.video.repository.VideoListCardRepository;
 import com.server.scapture.video.repository.VideoRepository;
 import com.server.scapture.videoLike.repository.VideoLikeRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class VideoServiceImpl implements VideoService{
+    // 저장 영상 최신순 첫 페이지 커서 (MySQL DATETIME 최대값)
+    private static final LocalDateTime MAX_END_DATE = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    // 영상 스트리밍 버퍼 크기 (요청당 고정)
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+    // 저장 영상 정렬 기준 (최신순, 좋아요순)
+    private static final String SORT_LATEST = "latest";
+    private static final String SORT_LIKE = "like";
+    // 좋아요/저장/다운로드 여부 한 번에 조회할 최대 영상 수
+    private static final int MAX_FLAG_VIDEOS = 200;
     private final VideoRepository videoRepository;
+    private final VideoBulkRepository videoBulkRepository;
     private final ScheduleRepository scheduleRepository;
-    private final FieldRepository fieldRepository;
-    private final StadiumRepository stadiumRepository;
     private final VideoLikeRepository videoLikeRepository;
     private final StoreRepository storeRepository;
     private final DownloadRepository downloadRepository;
+    private final DownloadEntitlementIndex downloadEntitlementIndex;
     private final UserRepository userRepository;
-    private final ImageRepository imageRepository;
+    private final ScheduleSheetCache scheduleSheetCache;
+    private final S3Service s3Service;
+    private final VideoCardCache videoCardCache;
+    private final VideoListCardRepository videoListCardRepository;
+    private final VideoListCardSynchronizer videoListCardSynchronizer;
+    private final VideoViewCounter videoViewCounter;
+    private final VideoWindowCounter videoWindowCounter;
+    private final VideoUniqueViewerCounter videoUniqueViewerCounter;
+    private final VideoLikeCounter videoLikeCounter;
+    private final VideoLeaderboard videoLeaderboard;
+    private final TrendingVideoScorer trendingVideoScorer;
     private final JwtUtil jwtUtil;
+    private final LookupExecutor lookupExecutor;
+    private final ObjectMapper objectMapper;
+    @Value("${video.bulk.batch-size:500}")
+    private int bulkBatchSize;
+    @Value("${video.views.dedupe-by-viewer:false}")
+    private boolean dedupeViewsByViewer;
     @Override
     public ResponseEntity<CustomAPIResponse<?>> createVideo(VideoCreateRequestDto videoCreateRequestDto) {
         // 1. 운영 일정 조회
@@ -60,7 +135,11 @@ public class VideoServiceImpl implements VideoService{
                     .views(0)
                     .build();
             videoRepository.save(video);
+            videoLeaderboard.add(video.getId());
         }
+        // 3. 목록 카드 생성, 일정표 영상 수 캐시 무효화
+        videoListCardSynchronizer.addSchedules(List.of(schedule.getId()));
+        scheduleSheetCache.invalidate(schedule.getField().getId(), schedule.getStartDate().toLocalDate());
 
         CustomAPIResponse<Object> responseBody = CustomAPIResponse.createSuccessWithoutData(HttpStatus.CREATED.value(), "영상 등록이 완료되었습니다.");
         return ResponseEntity
@@ -68,46 +147,157 @@ public class VideoServiceImpl implements VideoService{
                 .body(responseBody);
     }
     @Override
-    public ResponseEntity<CustomAPIResponse<?>> getVideos(Long scheduleId) {
-        // 1. Schedule 조회
-        Optional<Schedule> foundSchedule = scheduleRepository.findById(scheduleId);
-        // 1-1. 실패
-        if (foundSchedule.isEmpty()) {
+    public ResponseEntity<CustomAPIResponse<?>> createVideosInBulk(InputStream ndjson) throws IOException {
+        long startedAt = System.currentTimeMillis();
+        List<VideoBulkBatchResultDto> batchResults = new ArrayList<>();
+        // 존재 여부를 확인한 운영 일정 PK
+        Set<Long> knownSchedules = new HashSet<>();
+        Set<Long> unknownSchedules = new HashSet<>();
+        // 1. 한 줄씩 읽으며 bulkBatchSize 단위로 저장
+        BufferedReader reader = new BufferedReader(new InputStreamReader(ndjson, StandardCharsets.UTF_8));
+        List<VideoBulkCreateLineDto> buffer = new ArrayList<>(bulkBatchSize);
+        int malformed = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) continue;
+            // 1-1. 파싱 (형식 오류 줄은 거절하고 계속 진행)
+            try {
+                VideoBulkCreateLineDto videoDto = objectMapper.readValue(line, VideoBulkCreateLineDto.class);
+                if (videoDto.getScheduleId() == null || videoDto.getVideo() == null) malformed++;
+                else buffer.add(videoDto);
+            } catch (JsonProcessingException e) {
+                malformed++;
+            }
+            // 1-2. 배치 저장
+            if (buffer.size() + malformed >= bulkBatchSize) {
+                batchResults.add(insertBulkBatch(batchResults.size() + 1, buffer, malformed, knownSchedules, unknownSchedules));
+                buffer = new ArrayList<>(bulkBatchSize);
+                malformed = 0;
+            }
+        }
+        if (!buffer.isEmpty() || malformed > 0) {
+            batchResults.add(insertBulkBatch(batchResults.size() + 1, buffer, malformed, knownSchedules, unknownSchedules));
+        }
+        // 1-3. 영상이 추가된 운영 일정의 목록 카드 생성, 일정표 캐시 무효화
+        videoListCardSynchronizer.addSchedules(knownSchedules);
+        scheduleSheetCache.invalidateSchedules(knownSchedules);
+        // 2. Response
+        // 2-1. data
+        int received = 0, inserted = 0, rejected = 0;
+        for (VideoBulkBatchResultDto batchResult : batchResults) {
+            received += batchResult.getReceived();
+            inserted += batchResult.getInserted();
+            rejected += batchResult.getRejected();
+        }
+        long elapsedMs = System.currentTimeMillis() - startedAt;
+        VideoBulkCreateResponseDto data = VideoBulkCreateResponseDto.builder()
+                .received(received)
+                .inserted(inserted)
+                .rejected(rejected)
+                .elapsedMs(elapsedMs)
+                .clipsPerSecond(elapsedMs == 0 ? inserted : inserted * 1000.0 / elapsedMs)
+                .batches(batchResults)
+                .build();
+        log.info("영상 대량 등록: {}건 저장, {}건 거절, {}ms", inserted, rejected, elapsedMs);
+        // 2-2. responseBody
+        CustomAPIResponse<VideoBulkCreateResponseDto> responseBody = CustomAPIResponse.createSuccess(HttpStatus.CREATED.value(), data, "영상 대량 등록이 완료되었습니다.");
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(responseBody);
+    }
+    // 배치 1개 저장: 운영 일정 존재 확인 후 JDBC 배치 INSERT
+    private VideoBulkBatchResultDto insertBulkBatch(int batchNumber, List<VideoBulkCreateLineDto> buffer, int malformed, Set<Long> knownSchedules, Set<Long> unknownSchedules) {
+        long startedAt = System.currentTimeMillis();
+        // 1. 처음 보는 운영 일정만 조회
+        Set<Long> uncheckedSchedules = new HashSet<>();
+        for (VideoBulkCreateLineDto videoDto : buffer) {
+            Long scheduleId = videoDto.getScheduleId();
+            if (!knownSchedules.contains(scheduleId) && !unknownSchedules.contains(scheduleId)) uncheckedSchedules.add(scheduleId);
+        }
+        if (!uncheckedSchedules.isEmpty()) {
+            List<Long> existingSchedules = scheduleRepository.findExistingIds(uncheckedSchedules);
+            knownSchedules.addAll(existingSchedules);
+            uncheckedSchedules.removeAll(existingSchedules);
+            unknownSchedules.addAll(uncheckedSchedules);
+        }
+        // 2. 존재하는 운영 일정의 영상만 저장
+        List<VideoBulkCreateLineDto> validList = buffer.stream()
+                .filter(videoDto -> knownSchedules.contains(videoDto.getScheduleId()))
+                .toList();
+        List<Long> insertedIds = videoBulkRepository.insertAll(validList);
+        // 3. 인기 영상 리더보드 등록 (배치마다 자동 커밋되므로 저장 직후 반영)
+        TransactionUtil.afterCommit(() -> insertedIds.forEach(videoLeaderboard::add));
+        return VideoBulkBatchResultDto.builder()
+                .batch(batchNumber)
+                .received(buffer.size() + malformed)
+                .inserted(insertedIds.size())
+                .rejected(malformed + buffer.size() - validList.size())
+                .elapsedMs(System.currentTimeMillis() - startedAt)
+                .build();
+    }
+    @Override
+    public ResponseEntity<CustomAPIResponse<?>> getVideos(Long scheduleId, String cursor, Integer size) {
+        // 1. 영상 목록 카드 조회 (video_card 단일 테이블)
+        List<VideoListCard> cardList;
+        int pageSize = CursorUtil.pageSize(size);
+        // 1-1. 페이지 크기 미지정 -> 전체 조회
+        if (size == null) cardList = videoListCardRepository.findByScheduleIdOrderByVideoIdAsc(scheduleId);
+        // 1-2. keyset 페이지 조회 (id > cursor, size + 1개로 다음 페이지 여부 확인)
+        else {
+            long cursorVideoId;
+            try {
+                cursorVideoId = cursor == null ? 0L : Long.parseLong(CursorUtil.decode(cursor, 1)[0]);
+            } catch (IllegalArgumentException e) {
+                CustomAPIResponse<Object> responseBody = CustomAPIResponse.createFailWithoutData(HttpStatus.BAD_REQUEST.value(), "유효하지 않은 커서입니다.");
+                return ResponseEntity
+                        .status(HttpStatus.BAD_REQUEST)
+                        .body(responseBody);
+            }
+            cardList = videoListCardRepository.findByScheduleIdAndVideoIdGreaterThanOrderByVideoIdAsc(scheduleId, cursorVideoId, PageRequest.of(0, pageSize + 1));
+        }
+        // 2. 영상이 없는 경우에만 운영 일정 존재 확인
+        if (cardList.isEmpty() && !scheduleRepository.existsById(scheduleId)) {
             CustomAPIResponse<Object> responseBody = CustomAPIResponse.createFailWithoutData(HttpStatus.NOT_FOUND.value(), "존재하지 않는 운영 일정입니다.");
             return ResponseEntity
                     .status(HttpStatus.NOT_FOUND)
                     .body(responseBody);
         }
-        // 1-2. 성공
-        Schedule schedule = foundSchedule.get();
-        // 2. 영상 조회
-        List<Video> videoList = videoRepository.findBySchedule(schedule);
-        // 3. 경기장 조회
-        // 3-1. 구장 조회
-        Field field = fieldRepository.findById(schedule.getField().getId()).get();
-        // 3-2. 경기장 조회
-        Stadium stadium = stadiumRepository.findById(field.getStadium().getId()).get();
-        // 4. Response
-        // 4-1. data
+        // 3. Response
+        // 3-1. data
+        boolean hasNext = size != null && cardList.size() > pageSize;
+        if (hasNext) cardList = cardList.subList(0, pageSize);
         List<GetVideosResponseDto> data = null;
-        if (!videoList.isEmpty()) {
+        if (!cardList.isEmpty()) {
             data = new ArrayList<>();
-            for (Video video : videoList) {
+            for (VideoListCard card : cardList) {
                 GetVideosResponseDto responseDto = GetVideosResponseDto.builder()
-                        .videoId(video.getId())
-                        .name(video.getName())
-                        .image(video.getImage())
-                        .stadiumName(stadium.getName())
-                        .date(schedule.convertMonthAndDay())
-                        .hours(schedule.convertHourAndMin())
-                        .views(video.getViews())
+                        .videoId(card.getVideoId())
+                        .name(card.getName())
+                        .image(s3Service.presign(card.getImage(), UrlAudience.ANONYMOUS))
+                        .stadiumName(card.getStadiumName())
+                        .date(Schedule.convertMonthAndDay(card.getStartDate()))
+                        .hours(Schedule.convertHourAndMin(card.getStartDate(), card.getEndDate()))
+                        .views(card.getViews())
                         .build();
                 data.add(responseDto);
             }
         }
-        // 4-2. responseBody
+        // 3-2. responseBody
+        // 3-2-1. 페이지 조회
+        if (size != null) {
+            CursorPageResponseDto<GetVideosResponseDto> page = CursorPageResponseDto.<GetVideosResponseDto>builder()
+                    .content(data == null ? List.of() : data)
+                    .nextCursor(hasNext ? CursorUtil.encode(cardList.get(cardList.size() - 1).getVideoId()) : null)
+                    .hasNext(hasNext)
+                    .build();
+            CustomAPIResponse<CursorPageResponseDto<GetVideosResponseDto>> responseBody = CustomAPIResponse.createSuccess(HttpStatus.OK.value(), page, "경기 영상 조회 완료되었습니다.");
+            return ResponseEntity
+                    .status(HttpStatus.OK)
+                    .body(responseBody);
+        }
+        // 3-2-2. 전체 조회
         CustomAPIResponse<List<GetVideosResponseDto>> responseBody = CustomAPIResponse.createSuccess(HttpStatus.OK.value(), data, "경기 영상 조회 완료되었습니다.");
-        // 4-3. ResponseEntity
+        // 3-3. ResponseEntity
         return ResponseEntity
                 .status(HttpStatus.OK)
                 .body(responseBody);
@@ -115,45 +305,111 @@ public class VideoServiceImpl implements VideoService{
     @Override
     public ResponseEntity<CustomAPIResponse<?>> getVideosByLikeCount() {
         // 1. Response
-        List<Video> videoList = videoRepository.findTop10ByOrderByLikeCountDesc();
-        // 1-1. data
+        // 메모리 리더보드에서 상위 10개 조회
+        List<VideoRank> rankList = videoLeaderboard.top(10);
+        // 1-1. data (영상 목록 카드 단일 테이블 조회)
         List<GetVideosByLikeCountResponseDto> data = new ArrayList<>();
-        int index = 1;
-        for (Video video : videoList) {
-            Schedule schedule = scheduleRepository.findById(video.getSchedule().getId()).get();
-            Field field = fieldRepository.findById(schedule.getField().getId()).get();
-            Stadium stadium = stadiumRepository.findById(field.getStadium().getId()).get();
-
-            // 1-1-1. Stadium Dto
-            Optional<Image> foundImage = imageRepository.findFirst1ByStadium(stadium);
-            String image = null;
-            if(foundImage.isPresent()) image = foundImage.get().getImage();
+        if (!rankList.isEmpty()) {
+            List<Long> videoIds = rankList.stream().map(VideoRank::videoId).toList();
+            Map<Long, GetVideosByLikeCountResponseDto> cardMap = new HashMap<>();
+            for (GetVideosByLikeCountResponseDto card : videoListCardRepository.findVideoCardsByIdIn(videoIds)) {
+                cardMap.put(card.getVideoId(), card);
+            }
+            // 1-1-1. 리더보드 순서대로 정렬
+            int index = 1;
+            for (VideoRank rank : rankList) {
+                GetVideosByLikeCountResponseDto responseDto = cardMap.get(rank.videoId());
+                if (responseDto == null) continue;
+                responseDto.setName("인기 동영상 " + String.format("%02d", index));
+                responseDto.setLikeCount(rank.likeCount());
+                responseDto.setViews(responseDto.getViews() + (int) videoViewCounter.getPendingViews(rank.videoId()));
+                responseDto.setImage(s3Service.presign(responseDto.getImage(), UrlAudience.ANONYMOUS));
+                responseDto.getStadium().setImage(s3Service.presign(responseDto.getStadium().getImage(), UrlAudience.ANONYMOUS));
+                data.add(responseDto);
+                index++;
+            }
+        }
+        // 1-2. responseBody
+        CustomAPIResponse<List<GetVideosByLikeCountResponseDto>> responseBody = CustomAPIResponse.createSuccess(HttpStatus.OK.value(), data, "인기 동영상 조회 완료되었습니다.");
+        // 1-3. ResponseEntity
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(responseBody);
+    }
+    @Override
+    public ResponseEntity<CustomAPIResponse<?>> getTrendingVideos(Integer size) {
+        // 1. 스냅샷 조회 (기본 10개, 최대 스냅샷 크기)
+        int limit = size == null ? 10 : Math.max(1, Math.min(size, trendingVideoScorer.getSnapshotSize()));
+        List<GetVideosByLikeCountResponseDto> rankList = trendingVideoScorer.top(limit);
+        // 2. Response
+        // 2-1. data (스냅샷은 공유 객체이므로 복사 후 presigned URL 적용)
+        List<GetVideosByLikeCountResponseDto> data = new ArrayList<>();
+        for (GetVideosByLikeCountResponseDto card : rankList) {
             GetStadiumNameAndImageDto stadiumDto = GetStadiumNameAndImageDto.builder()
-                    .name(stadium.getName())
-                    .image(image)
+                    .name(card.getStadium().getName())
+                    .image(s3Service.presign(card.getStadium().getImage(), UrlAudience.ANONYMOUS))
                     .build();
-
             GetVideosByLikeCountResponseDto responseDto = GetVideosByLikeCountResponseDto.builder()
-                    .videoId(video.getId())
-                    .name("인기 동영상 " + String.format("%02d", index))
-                    .image(video.getImage())
-                    .date(schedule.convertAll())
-                    .likeCount(video.getLikeCount())
-                    .views(video.getViews())
+                    .videoId(card.getVideoId())
+                    .name(card.getName())
+                    .image(s3Service.presign(card.getImage(), UrlAudience.ANONYMOUS))
+                    .date(card.getDate())
+                    .likeCount(card.getLikeCount())
+                    .views(card.getViews())
                     .stadium(stadiumDto)
                     .build();
             data.add(responseDto);
-            index++;
         }
-        // 1-2. responseBody
-        CustomAPIResponse<List<GetVideosByLikeCountResponseDto>> responseBody = CustomAPIResponse.createSuccess(HttpStatus.OK.value(), data, "인기 동영상 조회 완료되었습니다.");
-        // 1-3. ResponseEntity
+        // 2-2. responseBody
+        CustomAPIResponse<List<GetVideosByLikeCountResponseDto>> responseBody = CustomAPIResponse.createSuccess(HttpStatus.OK.value(), data, "급상승 영상 조회 완료되었습니다.");
+        // 2-3. ResponseEntity
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(responseBody);
+    }
+    @Override
+    public ResponseEntity<CustomAPIResponse<?>> getVideoCharts(String window, String metric, Long stadiumId) {
+        // 1. 구간, 기준 확인
+        ChartWindow chartWindow;
+        ChartMetric chartMetric;
+        try {
+            chartWindow = ChartWindow.valueOf(window.toUpperCase());
+            chartMetric = ChartMetric.valueOf(metric.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            CustomAPIResponse<Object> responseBody = CustomAPIResponse.createFailWithoutData(HttpStatus.BAD_REQUEST.value(), "유효하지 않은 차트 구간 또는 기준입니다.");
+            return ResponseEntity
+                    .status(HttpStatus.BAD_REQUEST)
+                    .body(responseBody);
+        }
+        // 2. 미리 계산된 차트 조회
+        List<GetVideoChartResponseDto> chart = videoWindowCounter.chart(chartWindow, chartMetric, stadiumId);
+        // 3. Response
+        // 3-1. data (차트는 공유 객체이므로 복사 후 presigned URL 적용)
+        List<GetVideoChartResponseDto> data = new ArrayList<>();
+        for (GetVideoChartResponseDto item : chart) {
+            GetStadiumNameAndImageDto stadiumDto = GetStadiumNameAndImageDto.builder()
+                    .name(item.getStadium().getName())
+                    .image(s3Service.presign(item.getStadium().getImage(), UrlAudience.ANONYMOUS))
+                    .build();
+            GetVideoChartResponseDto responseDto = GetVideoChartResponseDto.builder()
+                    .videoId(item.getVideoId())
+                    .name(item.getName())
+                    .image(s3Service.presign(item.getImage(), UrlAudience.ANONYMOUS))
+                    .date(item.getDate())
+                    .count(item.getCount())
+                    .stadium(stadiumDto)
+                    .build();
+            data.add(responseDto);
+        }
+        // 3-2. responseBody
+        CustomAPIResponse<List<GetVideoChartResponseDto>> responseBody = CustomAPIResponse.createSuccess(HttpStatus.OK.value(), data, "영상 차트 조회 완료되었습니다.");
+        // 3-3. ResponseEntity
         return ResponseEntity
                 .status(HttpStatus.OK)
                 .body(responseBody);
     }
     @Override
-    public ResponseEntity<CustomAPIResponse<?>> getStoredVideo(String header, String sort) {
+    public ResponseEntity<CustomAPIResponse<?>> getStoredVideo(String header, String sort, String cursor, Integer size) {
         // 1. 사용자 조회
         Optional<User> foundUser = jwtUtil.findUserByJwtToken(header);
         // 1-1. 실패
@@ -165,126 +421,233 @@ public class VideoServiceImpl implements VideoService{
         }
         // 1-2. 성공
         User user = foundUser.get();
-        // 2. 저장한 영상 가져오기
-        List<Store> storeList = storeRepository.findByUser(user);
+        // 1-3. 정렬 기준 검증
+        if (!SORT_LATEST.equals(sort) && !SORT_LIKE.equals(sort)) {
+            CustomAPIResponse<Object> responseBody = CustomAPIResponse.createFailWithoutData(HttpStatus.BAD_REQUEST.value(), "유효하지 않은 정렬 기준입니다.");
+            return ResponseEntity
+                    .status(HttpStatus.BAD_REQUEST)
+                    .body(responseBody);
+        }
+        // 페이지 크기 지정 시 keyset 페이지 조회
+        if (size != null) return getStoredVideoPage(user, sort, cursor, size);
+        // 2. 저장한 영상 조회 (정렬까지 DB에서 처리)
+        List<GetStoredVideoResponseDto> data;
+        if (SORT_LATEST.equals(sort)) data = storeRepository.findAllStoredVideosByLatest(user);
+        else data = storeRepository.findAllStoredVideosByLikeCount(user);
         // 2-1. 없는 경우
-        if (storeList.isEmpty()) {
+        if (data.isEmpty()) {
             CustomAPIResponse<Object> responseBody = CustomAPIResponse.createSuccessWithoutData(HttpStatus.OK.value(), "저장 영상 조회 완료되었습니다.");
             return ResponseEntity
                     .status(HttpStatus.OK)
                     .body(responseBody);
         }
-        // 3. Video 조회
-        List<Video> videoList = new ArrayList<>();
-        for (Store store : storeList) {
-            Optional<Video> foundVideo = videoRepository.findById(store.getVideo().getId());
-            // 3-1. video 조회 실패
-            if (foundVideo.isEmpty()) {
-                CustomAPIResponse<Object> responseBody = CustomAPIResponse.createFailWithoutData(HttpStatus.NOT_FOUND.value(), "존재하지 않는 영상입니다.");
-                return ResponseEntity
-                        .status(HttpStatus.NOT_FOUND)
-                        .body(responseBody);
+        // 2-2. 썸네일 presigned URL
+        for (GetStoredVideoResponseDto responseDto : data) {
+            responseDto.setImage(s3Service.presign(responseDto.getImage(), UrlAudience.MEMBER));
+        }
+        // 3. Response
+        // 3-1. responseBody
+        CustomAPIResponse<List<GetStoredVideoResponseDto>> responseBody = CustomAPIResponse.createSuccess(HttpStatus.OK.value(), data, "저장 영상 조회 완료되었습니다.");
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(responseBody);
+    }
+    // 저장 영상 keyset 페이지 조회 (정렬 키, 영상 PK)
+    private ResponseEntity<CustomAPIResponse<?>> getStoredVideoPage(User user, String sort, String cursor, Integer size) {
+        int pageSize = CursorUtil.pageSize(size);
+        PageRequest pageRequest = PageRequest.of(0, pageSize + 1);
+        boolean latest = SORT_LATEST.equals(sort);
+        // 1. 커서 해석 후 조회
+        List<StoredVideoRowDto> rowList;
+        try {
+            String[] keys = cursor == null ? null : CursorUtil.decode(cursor, 2);
+            long cursorVideoId = keys == null ? Long.MAX_VALUE : Long.parseLong(keys[1]);
+            if (latest) {
+                LocalDateTime cursorEndDate = keys == null ? MAX_END_DATE : LocalDateTime.parse(keys[0]);
+                rowList = storeRepository.findStoredVideosByLatest(user, cursorEndDate, cursorVideoId, pageRequest);
+            } else {
+                int cursorLikeCount = keys == null ? Integer.MAX_VALUE : Integer.parseInt(keys[0]);
+                rowList = storeRepository.findStoredVideosByLikeCount(user, cursorLikeCount, cursorVideoId, pageRequest);
             }
-            // 3-2. 성공
-            videoList.add(foundVideo.get());
-        }
-        // 4. 정렬
-        if (sort.equals("latest")) {
-            videoList.sort(new Comparator<Video>() {
-                @Override
-                public int compare(Video o1, Video o2) {
-                    Schedule schedule1 = scheduleRepository.findById(o1.getSchedule().getId()).get();
-                    Schedule schedule2 = scheduleRepository.findById(o2.getSchedule().getId()).get();
-                    return schedule2.getEndDate().compareTo(schedule1.getEndDate());
-                }
-            });
-        } else {
-            videoList.sort(new Comparator<Video>() {
-                @Override
-                public int compare(Video o1, Video o2) {
-                    return o2.getLikeCount() - o1.getLikeCount();
-                }
-            });
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            CustomAPIResponse<Object> responseBody = CustomAPIResponse.createFailWithoutData(HttpStatus.BAD_REQUEST.value(), "유효하지 않은 커서입니다.");
+            return ResponseEntity
+                    .status(HttpStatus.BAD_REQUEST)
+                    .body(responseBody);
         }
-        // 5. Response
-        // 5-1. data
+        // 2. Response
+        // 2-1. data
+        boolean hasNext = rowList.size() > pageSize;
+        if (hasNext) rowList = rowList.subList(0, pageSize);
         List<GetStoredVideoResponseDto> data = new ArrayList<>();
-        for (Video video : videoList) {
+        for (StoredVideoRowDto row : rowList) {
             GetStoredVideoResponseDto responseDto = GetStoredVideoResponseDto.builder()
-                    .videoId(video.getId())
-                    .image(video.getImage())
+                    .videoId(row.videoId())
+                    .image(s3Service.presign(row.image(), UrlAudience.MEMBER))
                     .build();
             data.add(responseDto);
         }
-        // 5-2. responseBody
-        CustomAPIResponse<List<GetStoredVideoResponseDto>> responseBody = CustomAPIResponse.createSuccess(HttpStatus.OK.value(), data, "저장 영상 조회 완료되었습니다.");
+        // 2-2. 다음 커서
+        String nextCursor = null;
+        if (hasNext) {
+            StoredVideoRowDto last = rowList.get(rowList.size() - 1);
+            nextCursor = latest ? CursorUtil.encode(last.endDate(), last.videoId()) : CursorUtil.encode(last.likeCount(), last.videoId());
+        }
+        CursorPageResponseDto<GetStoredVideoResponseDto> page = CursorPageResponseDto.<GetStoredVideoResponseDto>builder()
+                .content(data)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+        // 2-3. responseBody
+        CustomAPIResponse<CursorPageResponseDto<GetStoredVideoResponseDto>> responseBody = CustomAPIResponse.createSuccess(HttpStatus.OK.value(), page, "저장 영상 조회 완료되었습니다.");
         return ResponseEntity
                 .status(HttpStatus.OK)
                 .body(responseBody);
     }
     @Override
-    public ResponseEntity<CustomAPIResponse<?>> getVideoDetail(String header, Long videoId) {
-        // 1. video 조회
-        Optional<Video> foundVideo = videoRepository.findById(videoId);
-        // 1-1. 실패
-        if (foundVideo.isEmpty()) {
+    public ResponseEntity<CustomAPIResponse<?>> getVideoDetail(String header, Long videoId, String viewerFingerprint) {
+        // 1. User 조회
+        Long userId = jwtUtil.findUserIdByJwtToken(header).orElse(null);
+        UrlAudience audience = userId != null ? UrlAudience.MEMBER : UrlAudience.ANONYMOUS;
+        // 2. 영상 카드, 좋아요 여부, 저장 여부를 동시에 조회 (서로 독립, 각각 별도 커넥션)
+        // 2-1. 영상 카드 (영상 + 경기장 + 경기장 이미지, near cache에 없을 때만 DB 조회)
+        Optional<VideoCard> cachedCard = videoCardCache.getIfPresent(videoId);
+        CompletableFuture<Optional<VideoCard>> cardFuture = cachedCard.isPresent()
+                ? CompletableFuture.completedFuture(cachedCard)
+                : lookupExecutor.supply(() -> videoCardCache.get(videoId));
+        // 2-2. 좋아요 여부
+        CompletableFuture<Boolean> likedFuture = userId == null
+                ? CompletableFuture.completedFuture(false)
+                : lookupExecutor.supply(() -> videoLikeRepository.existsByVideoIdAndUserId(videoId, userId));
+        // 2-3. 저장 여부
+        CompletableFuture<Boolean> storedFuture = userId == null
+                ? CompletableFuture.completedFuture(false)
+                : lookupExecutor.supply(() -> storeRepository.existsByVideoIdAndUserId(videoId, userId));
+        // 2-4. 전체 대기 (가장 느린 조회만큼 걸림)
+        try {
+            CompletableFuture.allOf(cardFuture, likedFuture, storedFuture).join();
+        } catch (CompletionException e) {
+            // 2-4-1. 실패 (조회 제한 시간 초과 등)
+            log.warn("영상 세부 조회 실패: videoId={}", videoId, e.getCause());
+            CustomAPIResponse<Object> responseBody = CustomAPIResponse.createFailWithoutData(HttpStatus.SERVICE_UNAVAILABLE.value(), "잠시 후 다시 시도해 주세요.");
+            return ResponseEntity
+                    .status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(responseBody);
+        }
+        Optional<VideoCard> foundCard = cardFuture.join();
+        // 3. 영상 없음
+        if (foundCard.isEmpty()) {
             CustomAPIResponse<Object> responseBody = CustomAPIResponse.createFailWithoutData(HttpStatus.NOT_FOUND.value(), "존재하지 않는 영상입니다.");
             return ResponseEntity
                     .status(HttpStatus.NOT_FOUND)
                     .body(responseBody);
         }
-        // 1-2. 성공
-        Video video = foundVideo.get();
-        // 2. User 조회
-        Optional<User> foundUser = jwtUtil.findUserByJwtToken(header);
-        User user = null;
-        if(foundUser.isPresent()) user = foundUser.get();
-        // 3. Stadium 조회
-        Schedule schedule = scheduleRepository.findById(video.getSchedule().getId()).get();
-        Field field = fieldRepository.findById(schedule.getField().getId()).get();
-        Stadium stadium = stadiumRepository.findById(field.getStadium().getId()).get();
-        // 4. 구장 이미지 1개 조회
-        Optional<Image> foundImage = imageRepository.findFirst1ByStadium(stadium);
-        String image = null;
-        if(foundImage.isPresent()) image = foundImage.get().getImage();
-        // 5. 좋아요 여부 조회
-        boolean isLiked = false;
-        if(user != null) isLiked = videoLikeRepository.findByVideoAndUser(video, user).isPresent();
-        // 6. 저장 여부 조회
-        boolean isStored = false;
-        if(user != null) isStored = storeRepository.findByVideoAndUser(video, user).isPresent();
-        // 7. 영상 조회 수 증가
-        video.increaseViews();
-        videoRepository.save(video);
-        // 8. Response
-        // 8-1. data
-        // 8-1-1. stadiumDto
+        VideoCard card = foundCard.get();
+        boolean isLiked = likedFuture.join();
+        boolean isStored = storedFuture.join();
+        // 4. 순 시청자 기록 (회원 PK 또는 비회원 IP + User-Agent)
+        String viewerKey = userId != null ? "user:" + userId : "anonymous:" + viewerFingerprint;
+        long newViewers = videoUniqueViewerCounter.offer(videoId, viewerKey);
+        // 4-1. 영상 조회 수 증가 (write-behind, 설정 시 같은 시청자의 새로고침은 제외)
+        long viewDelta = dedupeViewsByViewer ? newViewers : 1;
+        if (viewDelta > 0) {
+            videoViewCounter.add(videoId, viewDelta);
+            trendingVideoScorer.view(videoId);
+            videoWindowCounter.recordView(videoId);
+        }
+        // 5. Response
+        // 5-1. data
+        // 5-1-1. stadiumDto
         GetStadiumInfoDto stadiumDto = GetStadiumInfoDto.builder()
-                .name(stadium.getName())
-                .description(stadium.getDescription())
-                .location(stadium.getLocation())
-                .isOutside(stadium.getIsOutside())
-                .parking(stadium.getParking())
-                .image(image)
+                .name(card.stadiumName())
+                .description(card.stadiumDescription())
+                .location(card.stadiumLocation())
+                .isOutside(card.stadiumIsOutside())
+                .parking(card.stadiumParking())
+                .image(s3Service.presign(card.stadiumImage(), audience))
                 .build();
-        // 8-1-2. dto
+        // 5-1-2. 영상 원본 URL (다운로드 권한이 있는 사용자에게만 발급)
+        boolean isDownloadable = userId != null && downloadEntitlementIndex.has(userId, videoId);
+        String videoUrl = isDownloadable ? s3Service.presign(card.video(), audience) : null;
+        // 5-1-3. dto (좋아요/조회 수는 카운터 값)
         GetVideoDetailResponseDto data = GetVideoDetailResponseDto.builder()
-                .name(video.getName())
-                .image(video.getImage())
-                .video(video.getVideo())
+                .name(card.name())
+                .image(s3Service.presign(card.image(), audience))
+                .video(videoUrl)
                 .isLiked(isLiked)
                 .isStored(isStored)
-                .views(video.getViews())
-                .likeCount(video.getLikeCount())
+                .views((int) videoCardCache.currentViews(card))
+                .uniqueViewers(videoUniqueViewerCounter.getUniqueViewers(videoId))
+                .likeCount(videoLeaderboard.getLikeCount(videoId))
                 .stadium(stadiumDto)
                 .build();
-        // 8-2. responseBody
+        // 5-2. responseBody
         CustomAPIResponse<GetVideoDetailResponseDto> responseBody = CustomAPIResponse.createSuccess(HttpStatus.OK.value(), data, "영상 세부 조회 완료되었습니다.");
         return ResponseEntity
                 .status(HttpStatus.OK)
                 .body(responseBody);
     }
     @Override
+    public ResponseEntity<CustomAPIResponse<?>> getVideoFlags(String header, GetVideoFlagsRequestDto getVideoFlagsRequestDto) {
+        // 1. 요청 검증 (중복 제거, 요청 순서 유지)
+        List<Long> requestedIds = getVideoFlagsRequestDto.getVideoIds();
+        // 1-1. 실패
+        if (requestedIds == null || requestedIds.isEmpty() || requestedIds.size() > MAX_FLAG_VIDEOS) {
+            CustomAPIResponse<Object> responseBody = CustomAPIResponse.createFailWithoutData(HttpStatus.BAD_REQUEST.value(), "영상은 1개 이상 " + MAX_FLAG_VIDEOS + "개 이하로 요청해야 합니다.");
+            return ResponseEntity
+                    .status(HttpStatus.BAD_REQUEST)
+                    .body(responseBody);
+        }
+        // 1-2. 성공
+        Set<Long> videoIds = new LinkedHashSet<>(requestedIds);
+        videoIds.remove(null);
+        // 2. 사용자 조회
+        Optional<Long> foundUserId = jwtUtil.findUserIdByJwtToken(header);
+        // 2-1. 실패
+        if (foundUserId.isEmpty()) {
+            CustomAPIResponse<Object> responseBody = CustomAPIResponse.createFailWithoutData(HttpStatus.NOT_FOUND.value(), "존재하지 않는 사용자입니다.");
+            return ResponseEntity
+                    .status(HttpStatus.NOT_FOUND)
+                    .body(responseBody);
+        }
+        // 2-2. 성공
+        Long userId = foundUserId.get();
+        // 3. 좋아요/저장 여부 IN 조회 (동시 실행), 다운로드 여부는 권한 인덱스
+        CompletableFuture<List<Long>> likedFuture = lookupExecutor.supply(() -> videoLikeRepository.findLikedVideoIds(userId, videoIds));
+        CompletableFuture<List<Long>> storedFuture = lookupExecutor.supply(() -> storeRepository.findStoredVideoIds(userId, videoIds));
+        Set<Long> likedIds;
+        Set<Long> storedIds;
+        try {
+            likedIds = new HashSet<>(likedFuture.join());
+            storedIds = new HashSet<>(storedFuture.join());
+        } catch (CompletionException e) {
+            // 3-1. 실패 (조회 제한 시간 초과 등)
+            log.warn("영상 여부 조회 실패: userId={}, 영상 {}개", userId, videoIds.size(), e.getCause());
+            CustomAPIResponse<Object> responseBody = CustomAPIResponse.createFailWithoutData(HttpStatus.SERVICE_UNAVAILABLE.value(), "잠시 후 다시 시도해 주세요.");
+            return ResponseEntity
+                    .status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(responseBody);
+        }
+        // 4. Response
+        // 4-1. data (요청 순서)
+        List<GetVideoFlagsResponseDto> data = new ArrayList<>(videoIds.size());
+        for (Long videoId : videoIds) {
+            GetVideoFlagsResponseDto responseDto = GetVideoFlagsResponseDto.builder()
+                    .videoId(videoId)
+                    .isLiked(likedIds.contains(videoId))
+                    .isStored(storedIds.contains(videoId))
+                    .isDownloaded(downloadEntitlementIndex.has(userId, videoId))
+                    .build();
+            data.add(responseDto);
+        }
+        // 4-2. responseBody
+        CustomAPIResponse<List<GetVideoFlagsResponseDto>> responseBody = CustomAPIResponse.createSuccess(HttpStatus.OK.value(), data, "영상 여부 조회 완료되었습니다.");
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(responseBody);
+    }
+    @Override
+    @Transactional
     public ResponseEntity<CustomAPIResponse<?>> createLike(String header, Long videoId) {
         // 1. User 조회
         Optional<User> foundUser = jwtUtil.findUserByJwtToken(header);
@@ -297,36 +660,29 @@ public class VideoServiceImpl implements VideoService{
         }
         // 1-2. 성공
         User user = foundUser.get();
-        // 2. Video 조회
-        Optional<Video> foundVideo = videoRepository.findById(videoId);
-        // 2-1. 실패
-        if (foundVideo.isEmpty()) {
+        // 2. Video 존재 여부 확인
+        if (!videoRepository.existsById(videoId)) {
             CustomAPIResponse<Object> responseBody = CustomAPIResponse.createFailWithoutData(HttpStatus.NOT_FOUND.value(), "존재하지 않는 영상입니다.");
             return ResponseEntity
                     .status(HttpStatus.NOT_FOUND)
                     .body(responseBody);
         }
-        // 2-2. 성공
-        Video video = foundVideo.get();
-        // 3. 영상_좋아요 저장
-        // 3-1. 중복 데이터 검사
-        Optional<VideoLike> foundVideoLike = videoLikeRepository.findByVideoAndUser(video, user);
-        if (foundVideoLike.isPresent()) {
+        // 3. 영상_좋아요 저장 (유니크 제약으로 중복 검사)
+        int inserted = videoLikeRepository.insertIfAbsent(videoId, user.getId(), LocalDateTime.now());
+        // 3-1. 이미 존재
+        if (inserted == 0) {
             CustomAPIResponse<Object> responseBody = CustomAPIResponse.createFailWithoutData(HttpStatus.CONFLICT.value(), "이미 존재하는 영상 좋아요입니다.");
             return ResponseEntity
                     .status(HttpStatus.CONFLICT)
                     .body(responseBody);
         }
-        // 3-2. 영상_좋아요 생성
-        VideoLike videoLike = VideoLike.builder()
-                .video(video)
-                .user(user)
-                .build();
-        // 3-3. 저장
-        videoLikeRepository.save(videoLike);
-        // 4. 영상 좋아요 증가
-        video.increaseLikeCount();
-        videoRepository.save(video);
+        // 4. 영상 좋아요 증가 (DB 원자적 증가, 설정 시 분산 카운터)
+        videoLikeCounter.increase(videoId);
+        TransactionUtil.afterCommit(() -> {
+            videoLeaderboard.increase(videoId);
+            trendingVideoScorer.like(videoId);
+            videoWindowCounter.recordLike(videoId);
+        });
         // 5. Response
         // 5-1. Response
         CustomAPIResponse<Object> responseBody = CustomAPIResponse.createSuccessWithoutData(HttpStatus.CREATED.value(), "영상 좋아요 추가 완료되었습니다.");
@@ -335,6 +691,7 @@ public class VideoServiceImpl implements VideoService{
                 .body(responseBody);
     }
     @Override
+    @Transactional
     public ResponseEntity<CustomAPIResponse<?>> deleteLike(String header, Long videoId) {
         // 1. User 조회
         Optional<User> foundUser = jwtUtil.findUserByJwtToken(header);
@@ -347,33 +704,30 @@ public class VideoServiceImpl implements VideoService{
         }
         // 1-2. 성공
         User user = foundUser.get();
-        // 2. Video 조회
-        Optional<Video> foundVideo = videoRepository.findById(videoId);
-        // 2-1. 실패
-        if (foundVideo.isEmpty()) {
+        // 2. Video 존재 여부 확인
+        if (!videoRepository.existsById(videoId)) {
             CustomAPIResponse<Object> responseBody = CustomAPIResponse.createFailWithoutData(HttpStatus.NOT_FOUND.value(), "존재하지 않는 영상입니다.");
             return ResponseEntity
                     .status(HttpStatus.NOT_FOUND)
                     .body(responseBody);
         }
-        // 2-2. 성공
-        Video video = foundVideo.get();
-        // 3. 영상_좋아요 해제
-        // 3-1. 데이터 유무 검사
-        Optional<VideoLike> foundVideoLike = videoLikeRepository.findByVideoAndUser(video, user);
-        if (foundVideoLike.isEmpty()) {
+        // 3. 영상_좋아요 해제 (급상승 점수 차감을 위해 좋아요 시각을 먼저 조회)
+        Optional<TrendingEventTime> likedAt = videoLikeRepository.findTrendingEventTime(videoId, user.getId());
+        int deleted = videoLikeRepository.deleteByVideoIdAndUserId(videoId, user.getId());
+        // 3-1. 데이터 없음
+        if (deleted == 0) {
             CustomAPIResponse<Object> responseBody = CustomAPIResponse.createFailWithoutData(HttpStatus.NOT_FOUND.value(), "존재하지 않는 영상 좋아요입니다.");
             return ResponseEntity
                     .status(HttpStatus.NOT_FOUND)
                     .body(responseBody);
         }
-        // 3-2. 영상_좋아요 탐색
-        VideoLike videoLike = foundVideoLike.get();
-        // 3-3. 삭제
-        videoLikeRepository.delete(videoLike);
-        // 4. 영상 좋아요 감소
-        video.decreaseLikeCount();
-        videoRepository.save(video);
+        // 4. 영상 좋아요 감소 (DB 원자적 감소, 설정 시 분산 카운터)
+        videoLikeCounter.decrease(videoId);
+        TransactionUtil.afterCommit(() -> {
+            videoLeaderboard.decrease(videoId);
+            likedAt.ifPresent(eventTime -> trendingVideoScorer.unlike(videoId, eventTime));
+            videoWindowCounter.recordUnlike(videoId);
+        });
         // 5. Response
         // 5-1. Response
         CustomAPIResponse<Object> responseBody = CustomAPIResponse.createSuccessWithoutData(HttpStatus.NO_CONTENT.value(), "영상 좋아요 해제 완료되었습니다.");
@@ -418,9 +772,11 @@ public class VideoServiceImpl implements VideoService{
         Store store = Store.builder()
                 .user(user)
                 .video(video)
+                .createdAt(LocalDateTime.now())
                 .build();
         // 3-3. 저장
         storeRepository.save(store);
+        trendingVideoScorer.store(videoId);
         // 4. response
         CustomAPIResponse<Object> responseBody = CustomAPIResponse.createSuccessWithoutData(HttpStatus.CREATED.value(), "영상 저장 완료되었습니다.");
         return ResponseEntity
@@ -464,6 +820,7 @@ public class VideoServiceImpl implements VideoService{
         Store store = foundStore.get();
         // 3-3. Store 삭제
         storeRepository.delete(store);
+        trendingVideoScorer.unstore(videoId, new TrendingEventTime(store.getCreatedAt(), video.getSchedule().getStartDate()));
         // 4. Response
         CustomAPIResponse<Object> responseBody = CustomAPIResponse.createSuccessWithoutData(HttpStatus.NO_CONTENT.value(), "저장 삭제 완료되었습니다.");
         return ResponseEntity
@@ -471,55 +828,47 @@ public class VideoServiceImpl implements VideoService{
                 .body(responseBody);
     }
     @Override
+    @Transactional
     public ResponseEntity<CustomAPIResponse<?>> createDownload(String header, Long videoId) {
         // 1. 영상 조회
-        Optional<Video> foundVideo = videoRepository.findById(videoId);
         // 1-1. 실패
-        if (foundVideo.isEmpty()) {
+        if (!videoRepository.existsById(videoId)) {
             CustomAPIResponse<Object> responseBody = CustomAPIResponse.createFailWithoutData(HttpStatus.NOT_FOUND.value(), "존재하지 않는 영상입니다.");
             return ResponseEntity
                     .status(HttpStatus.NOT_FOUND)
                     .body(responseBody);
         }
-        // 1-2. 성공
-        Video video = foundVideo.get();
         // 2. 사용자 조회
-        Optional<User> foundUser = jwtUtil.findUserByJwtToken(header);
+        Optional<Long> foundUserId = jwtUtil.findUserIdByJwtToken(header);
         // 2-1. 실패
-        if (foundUser.isEmpty()) {
+        if (foundUserId.isEmpty()) {
             CustomAPIResponse<Object> responseBody = CustomAPIResponse.createFailWithoutData(HttpStatus.NOT_FOUND.value(), "존재하지 않는 사용자입니다.");
             return ResponseEntity
                     .status(HttpStatus.NOT_FOUND)
                     .body(responseBody);
         }
         // 2-2. 성공
-        User user = foundUser.get();
-        // 3. 버내너 차감
-        // 3-1. 사용자 버내너 없음
-        if (user.getBanana() == 0) {
-            CustomAPIResponse<Object> responseBody = CustomAPIResponse.createFailWithoutData(HttpStatus.PAYMENT_REQUIRED.value(), "사용자 버내너가 부족합니다.");
+        Long userId = foundUserId.get();
+        // 3. Download 생성 (버내너 차감 전)
+        // 3-1. 중복 검사 (권한 인덱스)
+        // 3-2. 중복 검사 (유니크 제약, 동시 요청은 먼저 커밋된 쪽만 추가)
+        if (downloadEntitlementIndex.has(userId, videoId) || downloadRepository.insertIfAbsent(userId, videoId) == 0) {
+            CustomAPIResponse<Object> responseBody = CustomAPIResponse.createFailWithoutData(HttpStatus.CONFLICT.value(), "이미 존재하는 권한입니다.");
             return ResponseEntity
-                    .status(HttpStatus.PAYMENT_REQUIRED)
+                    .status(HttpStatus.CONFLICT)
                     .body(responseBody);
         }
-        // 3-2. 성공
-        user.decreaseTotalBananas(1);
-        userRepository.save(user);
-        // 4. Download 생성
-        // 4-1. 중복 검사
-        Optional<Download> foundDownload = downloadRepository.findByVideoAndUser(video, user);
-        if (foundDownload.isPresent()) {
-            CustomAPIResponse<Object> responseBody = CustomAPIResponse.createFailWithoutData(HttpStatus.CONFLICT.value(), "이미 존재하는 권한입니다.");
+        // 4. 버내너 차감 (잔액이 있을 때만 차감하는 단일 UPDATE)
+        // 4-1. 사용자 버내너 없음 -> 추가한 권한까지 롤백
+        if (userRepository.decreaseBananaIfEnough(userId, 1) == 0) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            CustomAPIResponse<Object> responseBody = CustomAPIResponse.createFailWithoutData(HttpStatus.PAYMENT_REQUIRED.value(), "사용자 버내너가 부족합니다.");
             return ResponseEntity
-                    .status(HttpStatus.CONFLICT)
+                    .status(HttpStatus.PAYMENT_REQUIRED)
                     .body(responseBody);
         }
-        // 4-2. Download 저장
-        Download download = Download.builder()
-                .video(video)
-                .user(user)
-                .build();
-        downloadRepository.save(download);
+        // 4-2. 권한 인덱스 반영
+        TransactionUtil.afterCommit(() -> downloadEntitlementIndex.grant(userId, videoId));
         // 5. Response
         CustomAPIResponse<Object> responseBody = CustomAPIResponse.createSuccessWithoutData(HttpStatus.CREATED.value(), "영상 다운로드 권한 부여 완료되었습니다.");
         return ResponseEntity
@@ -528,6 +877,40 @@ public class VideoServiceImpl implements VideoService{
     }
     @Override
     public ResponseEntity<CustomAPIResponse<?>> getDownload(String header, Long videoId) {
+        // 1. 사용자 조회
+        Optional<Long> foundUserId = jwtUtil.findUserIdByJwtToken(header);
+        // 1-1. 실패
+        if (foundUserId.isEmpty()) {
+            CustomAPIResponse<Object> responseBody = CustomAPIResponse.createFailWithoutData(HttpStatus.NOT_FOUND.value(), "존재하지 않는 사용자입니다.");
+            return ResponseEntity
+                    .status(HttpStatus.NOT_FOUND)
+                    .body(responseBody);
+        }
+        // 1-2. 성공
+        Long userId = foundUserId.get();
+        // 2. 권한 조회 (권한 인덱스)
+        if (downloadEntitlementIndex.has(userId, videoId)) {
+            CustomAPIResponse<Object> responseBody = CustomAPIResponse.createSuccessWithoutData(HttpStatus.OK.value(), "영상 다운로드 권한 확인 완료되었습니다.");
+            return ResponseEntity
+                    .status(HttpStatus.OK)
+                    .body(responseBody);
+        }
+        // 3. 실패
+        // 3-1. 영상 없음
+        if (!videoRepository.existsById(videoId)) {
+            CustomAPIResponse<Object> responseBody = CustomAPIResponse.createFailWithoutData(HttpStatus.NOT_FOUND.value(), "존재하지 않는 영상입니다.");
+            return ResponseEntity
+                    .status(HttpStatus.NOT_FOUND)
+                    .body(responseBody);
+        }
+        // 3-2. 권한 없음
+        CustomAPIResponse<Object> responseBody = CustomAPIResponse.createFailWithoutData(HttpStatus.CONFLICT.value(), "존재하지 않는 권한입니다.");
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(responseBody);
+    }
+    @Override
+    public ResponseEntity<?> streamVideo(String header, Long videoId, String range) {
         // 1. 영상 조회
         Optional<Video> foundVideo = videoRepository.findById(videoId);
         // 1-1. 실패
@@ -539,30 +922,98 @@ public class VideoServiceImpl implements VideoService{
         }
         // 1-2. 성공
         Video video = foundVideo.get();
-        // 1. 사용자 조회
-        Optional<User> foundUser = jwtUtil.findUserByJwtToken(header);
-        // 1-1. 실패
-        if (foundUser.isEmpty()) {
+        // 2. 사용자 조회
+        Optional<Long> foundUserId = jwtUtil.findUserIdByJwtToken(header);
+        // 2-1. 실패
+        if (foundUserId.isEmpty()) {
             CustomAPIResponse<Object> responseBody = CustomAPIResponse.createFailWithoutData(HttpStatus.NOT_FOUND.value(), "존재하지 않는 사용자입니다.");
             return ResponseEntity
                     .status(HttpStatus.NOT_FOUND)
                     .body(responseBody);
         }
-        // 1-2. 성공
-        User user = foundUser.get();
-        // 3. Download 조회
-        Optional<Download> foundDownload = downloadRepository.findByVideoAndUser(video, user);
-        // 3-1. 실패
-        if (foundDownload.isEmpty()) {
-            CustomAPIResponse<Object> responseBody = CustomAPIResponse.createFailWithoutData(HttpStatus.CONFLICT.value(), "존재하지 않는 권한입니다.");
+        // 3. 다운로드 권한 확인 (권한 인덱스)
+        if (!downloadEntitlementIndex.has(foundUserId.get(), videoId)) {
+            CustomAPIResponse<Object> responseBody = CustomAPIResponse.createFailWithoutData(HttpStatus.FORBIDDEN.value(), "영상 다운로드 권한이 없습니다.");
             return ResponseEntity
-                    .status(HttpStatus.CONFLICT)
+                    .status(HttpStatus.FORBIDDEN)
                     .body(responseBody);
         }
-        // 4. Response
-        CustomAPIResponse<Object> responseBody = CustomAPIResponse.createSuccessWithoutData(HttpStatus.OK.value(), "영상 다운로드 권한 확인 완료되었습니다.");
-        return ResponseEntity
-                .status(HttpStatus.OK)
-                .body(responseBody);
+        // 4. 영상 크기 조회 후 요청 구간 계산
+        ObjectMetadata metadata = s3Service.getObjectMetadata(video.getVideo());
+        long length = metadata.getContentLength();
+        ByteRange byteRange = parseRange(range, length);
+        // 4-1. 만족할 수 없는 구간
+        if (byteRange == null) {
+            return ResponseEntity
+                    .status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .header(HttpHeaders.CONTENT_RANGE, "bytes */" + length)
+                    .build();
+        }
+        long start = byteRange.start();
+        long end = byteRange.end();
+        // 5. 스트리밍 (고정 크기 버퍼로 S3 -> 응답 채널 전송, 힙에 영상 전체를 올리지 않음)
+        StreamingResponseBody body = outputStream -> {
+            S3ObjectInputStream inputStream = s3Service.openRange(video.getVideo(), start, end);
+            try {
+                ReadableByteChannel source = Channels.newChannel(inputStream);
+                WritableByteChannel sink = Channels.newChannel(outputStream);
+                ByteBuffer buffer = ByteBuffer.allocateDirect(STREAM_BUFFER_SIZE);
+                while (source.read(buffer) != -1) {
+                    buffer.flip();
+                    while (buffer.hasRemaining()) sink.write(buffer);
+                    buffer.clear();
+                }
+            } catch (IOException e) {
+                // 클라이언트가 탐색(seek)으로 연결을 끊은 경우 남은 바이트를 읽지 않고 종료
+                inputStream.abort();
+                throw e;
+            } finally {
+                inputStream.close();
+            }
+        };
+        // 6. Response
+        String contentType = metadata.getContentType() == null ? "video/mp4" : metadata.getContentType();
+        boolean partial = byteRange.partial();
+        ResponseEntity.BodyBuilder builder = ResponseEntity
+                .status(partial ? HttpStatus.PARTIAL_CONTENT : HttpStatus.OK)
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .contentType(MediaType.parseMediaType(contentType))
+                .contentLength(end - start + 1);
+        if (partial) builder.header(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        return builder.body(body);
+    }
+    // Range 헤더 해석: bytes=start-end | bytes=start- | bytes=-suffix (단일 구간만 지원)
+    // 헤더가 없거나 해석할 수 없는 형식(다중 구간, 다른 단위 등)은 무시하고 전체 구간 (RFC 7233)
+    // 형식은 올바르지만 파일 범위를 벗어나면 null
+    private ByteRange parseRange(String range, long length) {
+        ByteRange full = new ByteRange(0, length - 1, false);
+        if (range == null || !range.startsWith("bytes=") || range.contains(",")) return full;
+        String[] bounds = range.substring("bytes=".length()).trim().split("-", -1);
+        if (bounds.length != 2) return full;
+        long start;
+        long end;
+        try {
+            // 1. 끝에서부터 N바이트
+            if (bounds[0].isEmpty()) {
+                long suffix = Long.parseLong(bounds[1]);
+                if (suffix < 0) return full;
+                if (suffix == 0 || length == 0) return null;
+                start = Math.max(0, length - suffix);
+                end = length - 1;
+            }
+            // 2. start부터 (end 생략 시 끝까지)
+            else {
+                start = Long.parseLong(bounds[0]);
+                end = bounds[1].isEmpty() ? Long.MAX_VALUE : Long.parseLong(bounds[1]);
+                if (start < 0 || start > end) return full;
+                if (start >= length) return null;
+                end = Math.min(end, length - 1);
+            }
+        } catch (NumberFormatException e) {
+            return full;
+        }
+        return new ByteRange(start, end, true);
+    }
+    private record ByteRange(long start, long end, boolean partial) {
     }
 }
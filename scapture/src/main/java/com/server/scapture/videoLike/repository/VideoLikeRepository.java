@@ -3,12 +3,41 @@ package com.server.scapture.videoLike.repository;
 import com.server.scapture.domain.User;
 import com.server.scapture.domain.Video;
 import com.server.scapture.domain.VideoLike;
+import com.server.scapture.util.concurrent.LookupExecutor;
+import com.server.scapture.video.ranking.TrendingEventTime;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.SpecHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface VideoLikeRepository extends JpaRepository<VideoLike, Long> {
     Optional<VideoLike> findByVideoAndUser(Video video, User user);
+    // 조회 풀(LookupExecutor)에서 실행하는 조회는 제한 시간과 같은 쿼리 타임아웃을 건다.
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_QUERY_TIMEOUT, value = LookupExecutor.QUERY_TIMEOUT_MILLIS))
+    boolean existsByVideoIdAndUserId(Long videoId, Long userId);
+    // 주어진 영상 중 사용자가 좋아요한 영상 PK
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_QUERY_TIMEOUT, value = LookupExecutor.QUERY_TIMEOUT_MILLIS))
+    @Query("SELECT vl.video.id FROM VideoLike vl WHERE vl.user.id = :userId AND vl.video.id IN :videoIds")
+    List<Long> findLikedVideoIds(Long userId, Collection<Long> videoIds);
+    // (video_id, user_id) 유니크 제약으로 중복 좋아요는 무시 -> 1: 추가, 0: 이미 존재
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO video_like (video_id, user_id, created_at) VALUES (:videoId, :userId, :createdAt)", nativeQuery = true)
+    int insertIfAbsent(Long videoId, Long userId, LocalDateTime createdAt);
+    // 좋아요 시각과 경기 시작 시각 (급상승 점수 차감용)
+    @Query("SELECT new com.server.scapture.video.ranking.TrendingEventTime(vl.createdAt, s.startDate) " +
+            "FROM VideoLike vl JOIN vl.video v JOIN v.schedule s " +
+            "WHERE v.id = :videoId AND vl.user.id = :userId")
+    Optional<TrendingEventTime> findTrendingEventTime(Long videoId, Long userId);
+    @Modifying
+    @Query("DELETE FROM VideoLike vl WHERE vl.video.id = :videoId AND vl.user.id = :userId")
+    int deleteByVideoIdAndUserId(Long videoId, Long userId);
 }
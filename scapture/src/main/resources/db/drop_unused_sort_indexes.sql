@@ -0,0 +1,6 @@
+-- 사용하지 않는 정렬 인덱스 삭제 (MySQL, ddl-auto=update는 인덱스를 삭제하지 않으므로 기존 DB에 1회 실행)
+-- 저장 영상 keyset 조회는 video_card 컬럼으로 정렬하고 사용자의 저장 행(idx_store_user_video)에서 시작하므로
+-- 아래 인덱스는 읽히지 않고 쓰기 비용만 늘린다.
+DROP INDEX idx_schedule_end_date_id ON schedule;
+DROP INDEX idx_video_like_count_id ON video;
+DROP INDEX idx_video_card_like_count_video ON video_card;
@@ -0,0 +1,11 @@
+-- 다운로드 권한 유니크 제약 배포 전 1회 실행 (MySQL)
+-- ddl-auto=update는 중복 행이 있으면 제약 생성에 실패한 뒤 계속 실행되므로,
+-- 제약이 없으면 INSERT IGNORE가 중복 구매(버내너 이중 차감)를 막지 못한다. 애플리케이션을 모두 내린 뒤 실행할 것.
+-- (이미 중복으로 차감된 버내너는 자동으로 돌려주지 않으므로, 삭제 전 중복 행을 따로 확인할 것)
+
+-- 1. 중복 권한 행 삭제 (가장 먼저 추가된 행만 유지)
+DELETE dup FROM download dup
+JOIN download keep ON keep.user_id = dup.user_id AND keep.video_id = dup.video_id AND keep.id < dup.id;
+
+-- 2. 유니크 제약
+ALTER TABLE download ADD CONSTRAINT uk_download_user_video UNIQUE (user_id, video_id);
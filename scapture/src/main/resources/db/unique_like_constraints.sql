@@ -0,0 +1,21 @@
+-- 좋아요 유니크 제약 배포 전 1회 실행 (MySQL)
+-- ddl-auto=update는 중복 행이 있으면 제약 생성에 실패한 뒤 로그만 남기고 계속 실행되므로,
+-- 제약이 없으면 INSERT IGNORE가 중복 좋아요를 막지 못한다. 애플리케이션을 모두 내린 뒤 실행할 것.
+-- (종료 시 분산 카운터가 합산되므로 video_like_shard의 미반영분은 0이어야 한다)
+
+-- 1. 영상 좋아요 중복 행 삭제 (가장 먼저 추가된 행만 유지)
+DELETE dup FROM video_like dup
+JOIN video_like keep ON keep.video_id = dup.video_id AND keep.user_id = dup.user_id AND keep.id < dup.id;
+
+-- 2. 영상 좋아요 수 재계산 (남은 분산 카운터 증감분은 재계산 값에 포함되므로 비움)
+UPDATE video v SET v.like_count = (SELECT COUNT(*) FROM video_like vl WHERE vl.video_id = v.id);
+UPDATE video_like_shard SET count = 0;
+
+-- 3. 영상 좋아요 유니크 제약
+ALTER TABLE video_like ADD CONSTRAINT uk_video_like_video_user UNIQUE (video_id, user_id);
+
+-- 4. 댓글 좋아요 중복 행 삭제, 좋아요 수 재계산, 유니크 제약
+DELETE dup FROM comment_like dup
+JOIN comment_like keep ON keep.comment_id = dup.comment_id AND keep.user_id = dup.user_id AND keep.id < dup.id;
+UPDATE comment c SET c.like_count = (SELECT COUNT(*) FROM comment_like cl WHERE cl.comment_id = c.id);
+ALTER TABLE comment_like ADD CONSTRAINT uk_comment_like_comment_user UNIQUE (comment_id, user_id);
@@ -0,0 +1,84 @@
+package com.server.scapture.support;
+
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+
+// 메모리 대역용 트랜잭션 관리자 (DB 없이 실행)
+// 대역 리포지토리는 현재 트랜잭션에 커밋 시 반영할 작업, 롤백 시 되돌릴 작업, 종료 시까지 잡을 잠금(행 잠금 흉내)을 등록한다.
+// 트랜잭션 동기화(TransactionUtil.afterCommit)는 AbstractPlatformTransactionManager가 그대로 처리한다.
+public class InMemoryTransactionManager extends AbstractPlatformTransactionManager {
+	private static final ThreadLocal<Work> CURRENT = new ThreadLocal<>();
+
+	// 현재 트랜잭션 (트랜잭션 밖이면 null)
+	public static Work current() {
+		return CURRENT.get();
+	}
+
+	public static final class Work {
+		private final List<Runnable> onCommit = new ArrayList<>();
+		private final Deque<Runnable> onRollback = new ArrayDeque<>();
+		private final Deque<Lock> locks = new ArrayDeque<>();
+
+		public void onCommit(Runnable action) {
+			onCommit.add(action);
+		}
+
+		public void onRollback(Runnable action) {
+			onRollback.push(action);
+		}
+
+		// 트랜잭션 종료까지 유지 (같은 트랜잭션에서 다시 잡으면 재진입)
+		public void hold(Lock lock) {
+			lock.lock();
+			locks.push(lock);
+		}
+
+		private void release() {
+			while (!locks.isEmpty()) locks.pop().unlock();
+		}
+	}
+
+	@Override
+	protected Object doGetTransaction() {
+		Work work = CURRENT.get();
+		return work == null ? new Work[1] : new Work[]{work};
+	}
+
+	@Override
+	protected boolean isExistingTransaction(Object transaction) {
+		return ((Work[]) transaction)[0] != null;
+	}
+
+	@Override
+	protected void doBegin(Object transaction, TransactionDefinition definition) {
+		Work work = new Work();
+		((Work[]) transaction)[0] = work;
+		CURRENT.set(work);
+	}
+
+	@Override
+	protected void doCommit(DefaultTransactionStatus status) {
+		Work work = ((Work[]) status.getTransaction())[0];
+		work.onCommit.forEach(Runnable::run);
+	}
+
+	@Override
+	protected void doRollback(DefaultTransactionStatus status) {
+		Work work = ((Work[]) status.getTransaction())[0];
+		while (!work.onRollback.isEmpty()) work.onRollback.pop().run();
+	}
+
+	@Override
+	protected void doCleanupAfterCompletion(Object transaction) {
+		Work work = ((Work[]) transaction)[0];
+		work.release();
+		CURRENT.remove();
+	}
+}
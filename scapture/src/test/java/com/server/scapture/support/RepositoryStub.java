@@ -0,0 +1,42 @@
+package com.server.scapture.support;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+// 리포지토리 인터페이스 대역 (DB 없이 실행)
+// 메서드 이름별 응답만 등록하고, 호출마다 한 문장(statement)으로 세어 기록한다. 등록하지 않은 메서드는 실패시킨다.
+public class RepositoryStub {
+	private final Map<String, Function<Object[], Object>> answers = new ConcurrentHashMap<>();
+	private final List<String> calls = new CopyOnWriteArrayList<>();
+
+	public RepositoryStub answer(String methodName, Function<Object[], Object> answer) {
+		answers.put(methodName, answer);
+		return this;
+	}
+
+	// 여러 리포지토리에 같은 기록을 공유하려면 같은 RepositoryStub에서 만든다.
+	public <T> T of(Class<T> repositoryType) {
+		Object proxy = Proxy.newProxyInstance(repositoryType.getClassLoader(), new Class<?>[]{repositoryType}, (self, method, args) -> {
+			if (method.getDeclaringClass() == Object.class) {
+				return switch (method.getName()) {
+					case "equals" -> self == args[0];
+					case "hashCode" -> System.identityHashCode(self);
+					default -> repositoryType.getSimpleName() + " stub";
+				};
+			}
+			calls.add(repositoryType.getSimpleName() + "." + method.getName());
+			Function<Object[], Object> answer = answers.get(method.getName());
+			if (answer == null) throw new UnsupportedOperationException(repositoryType.getSimpleName() + "." + method.getName());
+			return answer.apply(args);
+		});
+		return repositoryType.cast(proxy);
+	}
+
+	public List<String> calls() {
+		return List.copyOf(calls);
+	}
+}
@@ -0,0 +1,144 @@
+package com.server.scapture.video.counter;
+
+import com.server.scapture.support.InMemoryTransactionManager;
+import com.server.scapture.video.cache.VideoListCardSynchronizer;
+import com.server.scapture.video.repository.VideoLikeShardRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 분산 카운터 합산이 동시 증감, 여러 인스턴스의 동시 합산에서도 증감분을 정확히 한 번 반영하는지 확인 (DB 없이 실행)
+class ShardedVideoLikeCounterTest {
+	private static final int SHARD_COUNT = 16;
+
+	private final InMemoryShards shards = new InMemoryShards();
+	private final TransactionTemplate transactionTemplate = new TransactionTemplate(new InMemoryTransactionManager());
+
+	@Test
+	void rollupDuringConcurrentLikesLosesNothing() throws Exception {
+		ShardedVideoLikeCounter counter = counter();
+		ExecutorService executor = Executors.newFixedThreadPool(9);
+		AtomicBoolean running = new AtomicBoolean(true);
+		// 합산을 계속 돌리는 동안 8개 스레드가 영상 3개에 좋아요 10,000 / 해제 2,000씩 기록
+		Future<?> rollups = executor.submit(() -> {
+			while (running.get()) counter.rollup();
+		});
+		List<Future<?>> likers = new ArrayList<>();
+		for (int thread = 0; thread < 8; thread++) {
+			likers.add(executor.submit(() -> {
+				for (int i = 0; i < 10_000; i++) counter.increase((long) (i % 3));
+				for (int i = 0; i < 2_000; i++) counter.decrease((long) (i % 3));
+			}));
+		}
+		for (Future<?> liker : likers) liker.get(30, TimeUnit.SECONDS);
+		running.set(false);
+		rollups.get(30, TimeUnit.SECONDS);
+		executor.shutdown();
+		counter.rollup();
+
+		long expectedTotal = 8L * (10_000 - 2_000);
+		assertThat(shards.likeCount(0L) + shards.likeCount(1L) + shards.likeCount(2L)).isEqualTo(expectedTotal);
+		assertThat(shards.pending()).isZero();
+	}
+
+	@Test
+	void concurrentRollupsFromTwoInstancesApplyEachDeltaOnce() throws Exception {
+		ShardedVideoLikeCounter first = counter();
+		ShardedVideoLikeCounter second = counter();
+		// 영상 1: 현재 200, 미반영 +100 / -150 (음수 보정이 중복 반영되면 50 또는 0이 됨)
+		shards.setLikeCount(1L, 200);
+		for (int i = 0; i < 100; i++) first.increase(1L);
+		for (int i = 0; i < 150; i++) second.decrease(1L);
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> rollups = new ArrayList<>();
+		for (ShardedVideoLikeCounter counter : List.of(first, second)) {
+			rollups.add(executor.submit(() -> {
+				start.await();
+				counter.rollup();
+				return null;
+			}));
+		}
+		start.countDown();
+		for (Future<?> rollup : rollups) rollup.get(30, TimeUnit.SECONDS);
+		executor.shutdown();
+
+		assertThat(shards.likeCount(1L)).isEqualTo(150);
+		assertThat(shards.pending()).isZero();
+	}
+
+	private ShardedVideoLikeCounter counter() {
+		ShardedVideoLikeCounter counter = new ShardedVideoLikeCounter(shards, transactionTemplate, new VideoListCardSynchronizer(null));
+		ReflectionTestUtils.setField(counter, "shardCount", SHARD_COUNT);
+		return counter;
+	}
+
+	// video_like_shard + video.like_count 메모리 대역
+	// findPending의 FOR UPDATE는 트랜잭션 종료까지 잡는 잠금으로 흉내 낸다.
+	private static class InMemoryShards extends VideoLikeShardRepository {
+		private final Map<String, AtomicLong> counts = new ConcurrentHashMap<>();
+		private final Map<Long, AtomicLong> likeCounts = new ConcurrentHashMap<>();
+		private final ReentrantLock pendingLock = new ReentrantLock();
+
+		InMemoryShards() {
+			super(null);
+		}
+
+		@Override
+		public void add(Long videoId, int shard, long delta) {
+			counts.computeIfAbsent(videoId + ":" + shard, key -> new AtomicLong()).addAndGet(delta);
+		}
+
+		@Override
+		public List<VideoLikeShardRow> findPending() {
+			InMemoryTransactionManager.current().hold(pendingLock);
+			List<VideoLikeShardRow> rows = new ArrayList<>();
+			counts.forEach((key, count) -> {
+				long value = count.get();
+				if (value == 0) return;
+				int separator = key.indexOf(':');
+				rows.add(new VideoLikeShardRow(Long.valueOf(key.substring(0, separator)), Integer.parseInt(key.substring(separator + 1)), value));
+			});
+			return rows;
+		}
+
+		@Override
+		public void subtractAll(List<VideoLikeShardRow> rows) {
+			for (VideoLikeShardRow row : rows) counts.get(row.videoId() + ":" + row.shard()).addAndGet(-row.count());
+		}
+
+		@Override
+		public void applyToVideos(List<Object[]> deltas) {
+			for (Object[] delta : deltas) likeCounts.computeIfAbsent((Long) delta[1], id -> new AtomicLong()).addAndGet((Long) delta[0]);
+		}
+
+		void setLikeCount(Long videoId, long likeCount) {
+			likeCounts.computeIfAbsent(videoId, id -> new AtomicLong()).set(likeCount);
+		}
+
+		long likeCount(Long videoId) {
+			AtomicLong likeCount = likeCounts.get(videoId);
+			return likeCount == null ? 0 : likeCount.get();
+		}
+
+		long pending() {
+			return counts.values().stream().mapToLong(AtomicLong::get).sum();
+		}
+	}
+}
@@ -0,0 +1,70 @@
+package com.server.scapture.video.ranking;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 좋아요 이벤트가 몰릴 때 메모리 리더보드 갱신이 유실되지 않는지 확인 (DB 없이 실행)
+class VideoLeaderboardTest {
+	private static final int LIKERS = 500;
+
+	@Test
+	void fiveHundredConcurrentLikersOnOneVideo() throws Exception {
+		VideoLeaderboard leaderboard = new VideoLeaderboard(null);
+		leaderboard.add(1L);
+
+		long elapsedNanos = runConcurrently(LIKERS, i -> leaderboard.increase(1L));
+
+		assertThat(leaderboard.getLikeCount(1L)).isEqualTo(LIKERS);
+		assertThat(leaderboard.top(10)).containsExactly(new VideoRank(1L, LIKERS));
+		System.out.printf("좋아요 %d건 동시 반영: %.2f ms%n", LIKERS, elapsedNanos / 1_000_000.0);
+	}
+
+	@Test
+	void concurrentLikesAndUnlikesKeepRankingConsistent() throws Exception {
+		VideoLeaderboard leaderboard = new VideoLeaderboard(null);
+		leaderboard.add(1L);
+		leaderboard.add(2L);
+		// 영상 1: 좋아요 500, 영상 2: 좋아요 500 후 200 해제가 뒤섞여 도착
+		runConcurrently(LIKERS, i -> leaderboard.increase(1L));
+		runConcurrently(LIKERS * 2, i -> {
+			if (i % 2 == 0) leaderboard.increase(2L);
+			else if (i < 400) leaderboard.decrease(2L);
+		});
+
+		int expectedSecond = leaderboard.getLikeCount(2L);
+		// 해제가 좋아요보다 먼저 도착하면 0에서 멈추므로 300 이상 500 이하
+		assertThat(expectedSecond).isBetween(LIKERS - 200, LIKERS);
+		// 정렬 집합에 이전 값이 남아 있지 않아야 함 (영상당 한 항목)
+		assertThat(leaderboard.top(10)).containsExactly(new VideoRank(1L, LIKERS), new VideoRank(2L, expectedSecond));
+	}
+
+	private static long runConcurrently(int tasks, IntConsumer task) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(tasks);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> futures = new ArrayList<>(tasks);
+		for (int i = 0; i < tasks; i++) {
+			int index = i;
+			futures.add(executor.submit(() -> {
+				start.await();
+				task.accept(index);
+				return null;
+			}));
+		}
+		long startedAt = System.nanoTime();
+		start.countDown();
+		for (Future<?> future : futures) future.get(10, TimeUnit.SECONDS);
+		long elapsed = System.nanoTime() - startedAt;
+		executor.shutdown();
+		return elapsed;
+	}
+}
@@ -0,0 +1,135 @@
+package com.server.scapture.video.service;
+
+import com.server.scapture.download.entitlement.DownloadEntitlementIndex;
+import com.server.scapture.download.repository.DownloadRepository;
+import com.server.scapture.oauth.jwt.JwtUtil;
+import com.server.scapture.support.InMemoryTransactionManager;
+import com.server.scapture.support.RepositoryStub;
+import com.server.scapture.user.repository.UserRepository;
+import com.server.scapture.video.repository.VideoRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 영상 다운로드 권한 구매를 1,000건 동시에 보냈을 때 버내너가 두 번 차감되거나 유실되지 않는지 확인 (DB 없이 실행)
+// download 유니크 키, user 행 잠금은 트랜잭션 종료까지 잡는 잠금으로 흉내 낸다.
+class DownloadPurchaseConcurrencyTest {
+	private static final int REQUESTS = 1000;
+	private static final long USER_ID = 1L;
+
+	// 커밋된 권한 ("사용자 PK:영상 PK")
+	private final Set<String> downloads = ConcurrentHashMap.newKeySet();
+	private final AtomicInteger banana = new AtomicInteger();
+	private final Map<String, ReentrantLock> rowLocks = new ConcurrentHashMap<>();
+
+	@Test
+	void parallelPurchasesOfDifferentVideosSpendEachBananaOnce() throws Exception {
+		banana.set(300);
+		VideoService videoService = videoService();
+
+		List<HttpStatus> statuses = purchaseConcurrently(videoService, index -> index + 1);
+
+		assertThat(statuses).filteredOn(HttpStatus.CREATED::equals).hasSize(300);
+		assertThat(statuses).filteredOn(HttpStatus.PAYMENT_REQUIRED::equals).hasSize(REQUESTS - 300);
+		assertThat(banana.get()).isZero();
+		// 잔액 부족으로 롤백된 요청의 권한은 남지 않음
+		assertThat(downloads).hasSize(300);
+	}
+
+	@Test
+	void parallelPurchasesOfSameVideoSpendOneBanana() throws Exception {
+		banana.set(5);
+		VideoService videoService = videoService();
+
+		List<HttpStatus> statuses = purchaseConcurrently(videoService, index -> 7L);
+
+		assertThat(statuses).filteredOn(HttpStatus.CREATED::equals).hasSize(1);
+		assertThat(statuses).filteredOn(HttpStatus.CONFLICT::equals).hasSize(REQUESTS - 1);
+		assertThat(banana.get()).isEqualTo(4);
+		assertThat(downloads).containsExactly(USER_ID + ":7");
+	}
+
+	private List<HttpStatus> purchaseConcurrently(VideoService videoService, LongFunction<Long> videoIdOf) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(REQUESTS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<HttpStatus>> futures = new ArrayList<>(REQUESTS);
+		for (int i = 0; i < REQUESTS; i++) {
+			Long videoId = videoIdOf.apply(i);
+			futures.add(executor.submit(() -> {
+				start.await();
+				return HttpStatus.valueOf(videoService.createDownload(String.valueOf(USER_ID), videoId).getStatusCode().value());
+			}));
+		}
+		start.countDown();
+		List<HttpStatus> statuses = new ArrayList<>(REQUESTS);
+		for (Future<HttpStatus> future : futures) statuses.add(future.get(30, TimeUnit.SECONDS));
+		executor.shutdown();
+		return statuses;
+	}
+
+	private VideoService videoService() {
+		RepositoryStub repositories = new RepositoryStub()
+				.answer("existsById", args -> true)
+				// INSERT IGNORE: 같은 키의 다른 트랜잭션이 끝날 때까지 대기
+				.answer("insertIfAbsent", args -> {
+					String key = args[0] + ":" + args[1];
+					InMemoryTransactionManager.current().hold(rowLocks.computeIfAbsent("download:" + key, k -> new ReentrantLock()));
+					if (downloads.contains(key)) return 0;
+					InMemoryTransactionManager.current().onCommit(() -> downloads.add(key));
+					return 1;
+				})
+				.answer("existsByUserIdAndVideoId", args -> downloads.contains(args[0] + ":" + args[1]))
+				.answer("findVideoIdsByUserId", args -> downloads.stream()
+						.filter(key -> key.startsWith(args[0] + ":"))
+						.map(key -> Long.valueOf(key.substring(key.indexOf(':') + 1)))
+						.sorted()
+						.toList())
+				// UPDATE ... WHERE banana >= amount: user 행 잠금, 롤백 시 되돌림
+				.answer("decreaseBananaIfEnough", args -> {
+					int amount = (Integer) args[1];
+					InMemoryTransactionManager.current().hold(rowLocks.computeIfAbsent("user:" + args[0], k -> new ReentrantLock()));
+					if (banana.get() < amount) return 0;
+					banana.addAndGet(-amount);
+					InMemoryTransactionManager.current().onRollback(() -> banana.addAndGet(amount));
+					return 1;
+				});
+		DownloadRepository downloadRepository = repositories.of(DownloadRepository.class);
+		JwtUtil jwtUtil = new JwtUtil() {
+			@Override
+			public Optional<Long> findUserIdByJwtToken(String authorizationHeader) {
+				return Optional.of(Long.valueOf(authorizationHeader));
+			}
+		};
+		VideoServiceImpl target = new VideoServiceImpl(
+				repositories.of(VideoRepository.class), null, null,
+				null, null, downloadRepository,
+				new DownloadEntitlementIndex(downloadRepository, new SimpleMeterRegistry(), 1000, 600), repositories.of(UserRepository.class), null, null,
+				null, null, null,
+				null, null, null,
+				null, null, null, jwtUtil, null, null);
+		// @Transactional 적용 (스프링 컨텍스트 없이 트랜잭션 인터셉터만 사용)
+		ProxyFactory proxyFactory = new ProxyFactory(target);
+		proxyFactory.addAdvice(new TransactionInterceptor(new InMemoryTransactionManager(), new AnnotationTransactionAttributeSource()));
+		return (VideoService) proxyFactory.getProxy();
+	}
+}
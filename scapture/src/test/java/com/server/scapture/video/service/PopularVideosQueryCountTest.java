@@ -0,0 +1,61 @@
+package com.server.scapture.video.service;
+
+import com.server.scapture.download.repository.DownloadRepository;
+import com.server.scapture.schedule.repository.ScheduleRepository;
+import com.server.scapture.store.repository.StoreRepository;
+import com.server.scapture.support.RepositoryStub;
+import com.server.scapture.user.repository.UserRepository;
+import com.server.scapture.util.S3.S3Service;
+import com.server.scapture.util.response.CustomAPIResponse;
+import com.server.scapture.video.counter.VideoViewCounter;
+import com.server.scapture.video.dto.GetVideosByLikeCountResponseDto;
+import com.server.scapture.video.ranking.VideoLeaderboard;
+import com.server.scapture.video.repository.VideoListCardRepository;
+import com.server.scapture.video.repository.VideoRepository;
+import com.server.scapture.videoLike.repository.VideoLikeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 인기 동영상 조회가 리더보드 상위 영상 수와 관계없이 한 문장만 실행하는지 확인 (DB 없이 실행)
+class PopularVideosQueryCountTest {
+
+	@Test
+	void popularVideosIssueExactlyOneStatement() {
+		// 1. 리더보드 상위 10개 (좋아요 10 ~ 1)
+		VideoLeaderboard leaderboard = new VideoLeaderboard(null);
+		for (long videoId = 1; videoId <= 10; videoId++) {
+			for (int like = 0; like < 11 - videoId; like++) leaderboard.increase(videoId);
+		}
+		// 2. 모든 리포지토리 호출을 한 기록에 모음 (목록 카드 조회만 응답)
+		RepositoryStub repositories = new RepositoryStub()
+				.answer("findVideoCardsByIdIn", args -> ((Collection<?>) args[0]).stream()
+						.map(id -> new GetVideosByLikeCountResponseDto((Long) id, "영상" + id, "thumbnail" + id,
+								LocalDateTime.of(2024, 5, 1, 10, 0), 0, 100, "경기장", "stadium-image"))
+						.toList());
+		VideoServiceImpl videoService = new VideoServiceImpl(
+				repositories.of(VideoRepository.class), null, repositories.of(ScheduleRepository.class),
+				repositories.of(VideoLikeRepository.class), repositories.of(StoreRepository.class), repositories.of(DownloadRepository.class),
+				null, repositories.of(UserRepository.class), null, new S3Service(null, null),
+				null, repositories.of(VideoListCardRepository.class), null,
+				new VideoViewCounter(null, null, null, new SimpleMeterRegistry(), 600), null, null,
+				null, leaderboard, null, null, null, null);
+
+		ResponseEntity<CustomAPIResponse<?>> response = videoService.getVideosByLikeCount();
+
+		// 3. 목록 카드 IN 조회 한 번
+		assertThat(repositories.calls()).containsExactly("VideoListCardRepository.findVideoCardsByIdIn");
+		@SuppressWarnings("unchecked")
+		List<GetVideosByLikeCountResponseDto> data = (List<GetVideosByLikeCountResponseDto>) response.getBody().getData();
+		assertThat(data).extracting(GetVideosByLikeCountResponseDto::getVideoId)
+				.containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+		assertThat(data.get(0).getLikeCount()).isEqualTo(10);
+		assertThat(data.get(0).getName()).isEqualTo("인기 동영상 01");
+	}
+}